@@ -0,0 +1,98 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.TableTennisApplication;
+import com.tabletennis.entity.Player;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.repository.PlayerRepository;
+import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.function.Supplier;
+
+/**
+ * The application running against its own in-memory database, for benchmarks that go through JPA
+ * The schema comes from the Liquibase changelog as in production; caches are off so every call reads the database.
+ */
+final class BenchmarkApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private int playerCount;
+
+    BenchmarkApplication() {
+        context = new SpringApplicationBuilder(TableTennisApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.cache.type=none",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.tabletennis=WARN");
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    EntityManager entityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Run an action in a transaction that is committed
+     */
+    <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    /**
+     * Run an action in a transaction, flushing its changes to the database and then rolling them back,
+     * so the action can be repeated against the same data
+     */
+    <T> T inRolledBackTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> {
+            var value = action.get();
+            entityManager.flush();
+            status.setRollbackOnly();
+            return value;
+        });
+    }
+
+    /**
+     * Create an open tournament with the given number of registered players
+     */
+    Tournament createTournament(int entrantCount) {
+        return inTransaction(() -> {
+            var tournament = new Tournament("Benchmark " + entrantCount, "Benchmark tournament",
+                    LocalDate.now().plusWeeks(1), LocalTime.of(10, 0), "Arena", entrantCount);
+            bean(TournamentRepository.class).save(tournament);
+            for (var i = 0; i < entrantCount; i++) {
+                var number = ++playerCount;
+                var player = bean(PlayerRepository.class).save(
+                        new Player("Player", "Number" + number, "benchmark" + number + "@example.com"));
+                bean(TournamentRegistrationRepository.class).save(new TournamentRegistration(player, tournament));
+            }
+            return tournament;
+        });
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
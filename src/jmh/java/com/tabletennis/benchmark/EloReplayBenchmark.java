@@ -0,0 +1,52 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.service.EloRating;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replaying a million completed games across a thousand players, the core of a full rating recompute.
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EloReplayBenchmark {
+
+    @Param({"1000"})
+    private int playerCount;
+
+    @Param({"1000000"})
+    private int gameCount;
+
+    private int[] player1Ids;
+    private int[] player2Ids;
+    private double[] player1Scores;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        player1Ids = new int[gameCount];
+        player2Ids = new int[gameCount];
+        player1Scores = new double[gameCount];
+        for (var game = 0; game < gameCount; game++) {
+            player1Ids[game] = 1 + random.nextInt(playerCount);
+            player2Ids[game] = 1 + (player1Ids[game] + random.nextInt(playerCount - 1)) % playerCount;
+            player1Scores[game] = random.nextBoolean() ? 1 : 0;
+        }
+    }
+
+    @Benchmark
+    public EloRating.Replay replay() {
+        return EloRating.replay(playerCount + 1, player1Ids, player2Ids, player1Scores);
+    }
+}
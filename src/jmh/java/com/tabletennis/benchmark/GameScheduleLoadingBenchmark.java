@@ -0,0 +1,66 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.dto.GameDto;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.mapping.GameMapper;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.service.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a tournament schedule through lazy player associations with the fetch-joined query.
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GameScheduleLoadingBenchmark {
+
+    @Param({"16", "64", "128"})
+    private int playerCount;
+
+    private BenchmarkApplication application;
+    private GameService gameService;
+    private GameRepository gameRepository;
+    private GameMapper gameMapper;
+    private Tournament tournament;
+
+    @Setup
+    public void setUp() {
+        application = new BenchmarkApplication();
+        gameService = application.bean(GameService.class);
+        gameRepository = application.bean(GameRepository.class);
+        gameMapper = application.bean(GameMapper.class);
+        tournament = application.createTournament(playerCount);
+        application.inTransaction(() -> gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public List<GameDto> lazy() {
+        return application.inTransaction(() -> gameRepository.findByTournamentOrderByGameOrderAsc(tournament).stream()
+                .map(gameMapper::convertToDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<GameDto> fetchJoined() {
+        return application.inTransaction(() -> gameService.getGamesForTournamentDto(tournament));
+    }
+}
@@ -0,0 +1,80 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.dto.RegistrationDto;
+import com.tabletennis.entity.Player;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.mapping.PlayerMapper;
+import com.tabletennis.mapping.RegistrationMapper;
+import com.tabletennis.mapping.TournamentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-registration DTO mapping with the bulk mapping that shares tournament and player DTOs.
+ * Run with ./gradlew jmh; the gc profiler reports gc.alloc.rate.norm (bytes allocated per call).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegistrationMappingBenchmark {
+
+    @Param({"50000"})
+    private int registrationCount;
+
+    @Param({"50"})
+    private int tournamentCount;
+
+    private RegistrationMapper registrationMapper;
+    private List<TournamentRegistration> registrations;
+
+    @Setup
+    public void setUp() {
+        registrationMapper = new RegistrationMapper(new PlayerMapper(), new TournamentMapper());
+
+        var tournaments = new ArrayList<Tournament>();
+        for (var i = 0; i < tournamentCount; i++) {
+            var tournament = new Tournament("Tournament " + i, "Benchmark tournament",
+                    LocalDate.now().plusDays(i + 1), LocalTime.of(10, 0), "Arena", registrationCount);
+            tournament.setId((long) i + 1);
+            tournaments.add(tournament);
+        }
+
+        // Each player enters every tournament, as in a league season
+        var playerCount = registrationCount / tournamentCount;
+        registrations = new ArrayList<>(registrationCount);
+        for (var p = 0; p < playerCount; p++) {
+            var player = new Player("Player", "Number" + p, "player" + p + "@example.com");
+            player.setId((long) p + 1);
+            for (var tournament : tournaments) {
+                var registration = new TournamentRegistration(player, tournament);
+                registration.setId((long) registrations.size() + 1);
+                registrations.add(registration);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<RegistrationDto> perRegistration() {
+        return registrations.stream()
+                .map(registrationMapper::convertToDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<RegistrationDto> bulkShared() {
+        return registrationMapper.convertToDtos(registrations);
+    }
+}
@@ -0,0 +1,56 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.dto.GameDto;
+import com.tabletennis.repository.TournamentRepository;
+import com.tabletennis.service.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures starting a round-robin tournament, with its game inserts batched and flushed to the database.
+ * Each start is rolled back, so every invocation starts the same open tournament.
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartTournamentBatchingBenchmark {
+
+    @Param({"16", "64", "128"})
+    private int playerCount;
+
+    private BenchmarkApplication application;
+    private GameService gameService;
+    private TournamentRepository tournamentRepository;
+    private Long tournamentId;
+
+    @Setup
+    public void setUp() {
+        application = new BenchmarkApplication();
+        gameService = application.bean(GameService.class);
+        tournamentRepository = application.bean(TournamentRepository.class);
+        tournamentId = application.createTournament(playerCount).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public List<GameDto> startTournament() {
+        return application.inRolledBackTransaction(() -> gameService.startTournament(
+                tournamentRepository.findById(tournamentId).orElseThrow(), 1, Duration.ofMinutes(20), 0));
+    }
+}
@@ -0,0 +1,67 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.service.SwissPairing;
+import com.tabletennis.service.format.Fixture;
+import com.tabletennis.service.format.Result;
+import com.tabletennis.service.format.SwissFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Swiss fixtures worked out after each recorded result, with every round but the last played:
+ * once mid-round, when only the standings are read, and once the round is complete and the last is paired.
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SwissFormatBenchmark {
+
+    @Param({"64", "512"})
+    private int playerCount;
+
+    private final SwissFormat format = new SwissFormat();
+    private List<Fixture> scheduled;
+    private List<Result> roundComplete;
+    private List<Result> roundInProgress;
+
+    @Setup
+    public void setUp() {
+        // Play every round but the last, each game a coin toss
+        var random = new Random(42);
+        var results = new ArrayList<Result>();
+        List<Fixture> fixtures = List.of();
+        for (var round = 1; round < SwissPairing.roundCount(playerCount); round++) {
+            fixtures = format.fixtures(playerCount, fixtures, results);
+            for (var fixture : fixtures.subList(results.size(), fixtures.size())) {
+                var player1Wins = random.nextBoolean();
+                results.add(new Result(fixture.stage(), fixture.round(), fixture.position(), fixture.player1(),
+                        fixture.player2(), player1Wins ? 11 : 7, player1Wins ? 7 : 11));
+            }
+        }
+        scheduled = fixtures;
+        roundComplete = results;
+        roundInProgress = results.subList(0, results.size() - 1);
+    }
+
+    @Benchmark
+    public List<Fixture> resultMidRound() {
+        return format.fixtures(playerCount, scheduled, roundInProgress);
+    }
+
+    @Benchmark
+    public List<Fixture> resultCompletingRound() {
+        return format.fixtures(playerCount, scheduled, roundComplete);
+    }
+}
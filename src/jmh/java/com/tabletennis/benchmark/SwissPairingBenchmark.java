@@ -0,0 +1,73 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.service.SwissPairing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of pairing one Swiss round, for the first round and for the last, when score groups
+ * are smallest and the most rematches have to be avoided.
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SwissPairingBenchmark {
+
+    @Param({"64", "512"})
+    private int playerCount;
+
+    private int[] noPoints;
+    private boolean[][] nonePlayed;
+    private int[] noByes;
+    private int lastRound;
+    private int[] points;
+    private boolean[][] played;
+    private int[] byes;
+
+    @Setup
+    public void setUp() {
+        noPoints = new int[playerCount];
+        nonePlayed = new boolean[playerCount][playerCount];
+        noByes = new int[playerCount];
+
+        points = new int[playerCount];
+        played = new boolean[playerCount][playerCount];
+        byes = new int[playerCount];
+        lastRound = SwissPairing.roundCount(playerCount);
+
+        // Play every round but the last, each game a coin toss
+        var random = new Random(42);
+        for (var round = 1; round < lastRound; round++) {
+            var pairing = SwissPairing.pair(round, points, played, byes);
+            for (var game : pairing.pairings()) {
+                played[game.player1()][game.player2()] = true;
+                played[game.player2()][game.player1()] = true;
+                points[random.nextBoolean() ? game.player1() : game.player2()] += 2;
+            }
+            if (pairing.bye() >= 0) {
+                byes[pairing.bye()]++;
+                points[pairing.bye()] += 2;
+            }
+        }
+    }
+
+    @Benchmark
+    public SwissPairing.Round firstRound() {
+        return SwissPairing.pair(1, noPoints, nonePlayed, noByes);
+    }
+
+    @Benchmark
+    public SwissPairing.Round lastRound() {
+        return SwissPairing.pair(lastRound, points, played, byes);
+    }
+}
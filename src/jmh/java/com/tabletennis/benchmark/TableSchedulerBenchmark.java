@@ -0,0 +1,38 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.service.RoundRobinScheduler;
+import com.tabletennis.service.TableScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures pairing a round robin and allocating its games to tables and slots, as a tournament start does.
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableSchedulerBenchmark {
+
+    @Param({"32", "64", "128"})
+    private int playerCount;
+
+    @Param({"8", "16"})
+    private int tableCount;
+
+    @Param({"0", "1", "2"})
+    private int restSlots;
+
+    @Benchmark
+    public TableScheduler.Allocation allocate() {
+        var pairings = RoundRobinScheduler.schedule(playerCount).toList();
+        return TableScheduler.allocate(pairings, playerCount, tableCount, restSlots);
+    }
+}
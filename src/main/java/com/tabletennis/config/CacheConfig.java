@@ -0,0 +1,91 @@
+package com.tabletennis.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for caching
+ * Caches are Caffeine-backed, sized and expired by spring.cache.caffeine.spec unless registered here
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * All tournaments with their registrations, as listed on the tournaments and admin pages
+     */
+    public static final String TOURNAMENT_SUMMARIES = "tournamentSummaries";
+
+    /**
+     * Tournaments open for registration, as listed on the registration page
+     */
+    public static final String OPEN_TOURNAMENTS = "openTournaments";
+
+    /**
+     * Users by username, as loaded for authentication
+     */
+    public static final String USERS = "users";
+
+    /**
+     * Player IDs by lower-case email, as resolved when registering
+     */
+    public static final String PLAYER_IDS = "playerIds";
+
+    /**
+     * Standings tables by tournament ID, kept current as results are recorded
+     */
+    public static final String STANDINGS = "standings";
+
+    /**
+     * Get a cache for programmatic use, failing fast if it is not configured
+     */
+    public static Cache requireCache(CacheManager cacheManager, String name) {
+        var cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+
+    /**
+     * Keep users only briefly, so changes made outside the application are picked up soon
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(USERS, Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * A player's email never changes and players are never deleted, so a cached ID cannot go stale
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> playerIdCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(PLAYER_IDS, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * Tables follow every recorded result, so they never go stale; the size bound caps the tournaments held
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> standingsCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(STANDINGS, Caffeine.newBuilder()
+                .maximumSize(100)
+                .recordStats()
+                .build());
+    }
+}
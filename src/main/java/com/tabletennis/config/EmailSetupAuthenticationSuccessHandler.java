@@ -2,6 +2,7 @@ package com.tabletennis.config;
 
 import java.io.IOException;
 
+import com.tabletennis.service.AuthenticatedUser;
 import com.tabletennis.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -27,8 +28,11 @@ public class EmailSetupAuthenticationSuccessHandler implements AuthenticationSuc
 
         String username = authentication.getName();
 
-        // Check if user needs to set up email
-        if (userService.needsEmailSetup(username)) {
+        // Check if user needs to set up email, reusing the flag loaded with the principal when available
+        var needsEmailSetup = authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.isEmailSetupRequired()
+                : userService.needsEmailSetup(username);
+        if (needsEmailSetup) {
             log.info("User {} needs email setup, redirecting to setup page", username);
             response.sendRedirect("/setup-email");
         } else {
@@ -41,6 +41,8 @@ public class SecurityConfig {
                 .requestMatchers("/admin/**").hasRole("ADMIN")
                 .requestMatchers("/tournaments/**").hasRole("ADMIN")
                 .requestMatchers("/setup-email").authenticated()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().permitAll()
             )
             .formLogin(form -> form
@@ -0,0 +1,80 @@
+package com.tabletennis.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Configuration class for serving the CSS and JavaScript assets
+ * Links built with @{...} in templates are rewritten to content-hashed URLs such as /css/main-{hash}.css,
+ * so the assets can be cached as immutable and a changed file is fetched under a new URL.
+ * Plain URLs such as /css/main.css keep serving whatever the current file is, so they are revalidated instead.
+ * The build minifies the assets and adds .gz copies, which are served to clients that accept gzip.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String[] ASSET_DIRECTORIES = {"css", "js"};
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // Cache-Control is left to AssetCacheControlInterceptor, which tells versioned URLs from plain ones
+        for (var directory : ASSET_DIRECTORIES) {
+            registry.addResourceHandler(assetPattern(directory))
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AssetCacheControlInterceptor())
+                .addPathPatterns(Arrays.stream(ASSET_DIRECTORIES).map(WebConfig::assetPattern).toList());
+    }
+
+    /**
+     * Rewrites asset URLs in rendered pages to their versioned form
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    private static String assetPattern(String directory) {
+        return "/" + directory + "/**";
+    }
+
+    /**
+     * Caches content-hashed asset URLs for a year as immutable, and has plain asset URLs revalidated on each use
+     */
+    static final class AssetCacheControlInterceptor implements HandlerInterceptor {
+
+        private static final Pattern CONTENT_HASHED = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+        private static final String VERSIONED = CacheControl.maxAge(Duration.ofDays(365))
+                .cachePublic().immutable().getHeaderValue();
+        private static final String PLAIN = CacheControl.noCache().cachePublic().getHeaderValue();
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            var versioned = CONTENT_HASHED.matcher(request.getRequestURI()).find();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, versioned ? VERSIONED : PLAIN);
+            return true;
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.tabletennis.controller;
 
+import com.tabletennis.dto.CrosstableRowDto;
+import com.tabletennis.dto.StandingDto;
+import com.tabletennis.service.DashboardStatisticsService;
+import com.tabletennis.service.DataVersionService;
+import com.tabletennis.service.DataVersionService.Aggregate;
 import com.tabletennis.service.GameService;
+import com.tabletennis.service.RatingService;
 import com.tabletennis.service.RegistrationService;
+import com.tabletennis.service.StandingsService;
 import com.tabletennis.service.TournamentService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -13,8 +25,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Controller for admin area functionality.
  * Provides access to tournament management and registration viewing.
@@ -34,24 +50,23 @@ public class AdminController {
     private final RegistrationService registrationService;
     private final TournamentService tournamentService;
     private final GameService gameService;
+    private final DashboardStatisticsService dashboardStatisticsService;
+    private final StandingsService standingsService;
+    private final DataVersionService dataVersionService;
+    private final RatingService ratingService;
 
     @GetMapping
     public String showAdminDashboard(Model model, Authentication authentication) {
-        // Get summary statistics for the dashboard
-        var totalTournaments = tournamentService.findAllOrderByDate().size();
-        var totalRegistrations = registrationService.findAllDto().size();
-
-        // NEW: Count tournaments starting within the next 2 weeks
-        var activeTournaments = tournamentService.countActiveTournaments();
+        // Get summary statistics for the dashboard from aggregate queries
+        var statistics = dashboardStatisticsService.getStatistics();
 
-        model.addAttribute("totalTournaments", totalTournaments);
-        model.addAttribute("totalRegistrations", totalRegistrations);
-        model.addAttribute("activeTournaments", activeTournaments);
-        model.addAttribute("tournamentCounts", registrationService.getTournamentCounts());
+        model.addAttribute("totalTournaments", statistics.getTotalTournaments());
+        model.addAttribute("totalRegistrations", statistics.getTotalRegistrations());
+        model.addAttribute("activeTournaments", statistics.getActiveTournaments());
+        model.addAttribute("tournamentCounts", statistics.getRegistrationCounts());
 
-        // Add tournament details with game status
+        // Add tournament details; started status is loaded in bulk with the tournaments
         model.addAttribute("tournaments", tournamentService.findAllOrderByDate());
-        model.addAttribute("gameService", gameService);
 
         // Add username to model for display
         if (authentication != null) {
@@ -62,7 +77,11 @@ public class AdminController {
     }
 
     @PostMapping("/tournaments/{id}/start")
-    public String startTournament(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String startTournament(@PathVariable Long id,
+            @RequestParam(defaultValue = "1") int tableCount,
+            @RequestParam(defaultValue = "20") int slotMinutes,
+            @RequestParam(defaultValue = "0") int restSlots,
+            RedirectAttributes redirectAttributes) {
         try {
             var tournament = tournamentService.findById(id)
                     .orElse(null);
@@ -71,12 +90,13 @@ public class AdminController {
                 return REDIRECT_ADMIN;
             }
 
-            var games = gameService.startTournament(tournament);
+            var games = gameService.startTournament(
+                    tournament, tableCount, Duration.ofMinutes(slotMinutes), restSlots);
             redirectAttributes.addFlashAttribute(SUCCESS_ATTRIBUTE,
                     "Tournament started successfully! " + games.size() + " games created.");
 
             return "redirect:/admin/tournaments/" + id + "/games";
-        } catch (IllegalStateException e) {
+        } catch (IllegalStateException | IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute(ERROR_ATTRIBUTE, e.getMessage());
             return REDIRECT_ADMIN;
         }
@@ -100,6 +120,7 @@ public class AdminController {
         model.addAttribute("totalGames", totalGames);
         model.addAttribute("completedGames", completedGames);
         model.addAttribute("registrations", registrationService.findByTournamentIdDto(id));
+        model.addAttribute("standings", standingsService.getStandings(tournament));
 
         // Add username to model for display
         if (authentication != null) {
@@ -109,6 +130,48 @@ public class AdminController {
         return "admin/tournament-games";
     }
 
+    @GetMapping(value = "/tournaments/{id}/standings", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StandingDto>> getTournamentStandings(@PathVariable Long id, WebRequest webRequest,
+            HttpServletResponse response) {
+        // Admin-only, so only the browser may store it, and must revalidate on every use
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (dataVersionService.checkNotModified(webRequest, Aggregate.GAMES)) {
+            return null;
+        }
+        return tournamentService.findById(id)
+                .map(tournament -> ResponseEntity.ok(standingsService.getStandings(tournament)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/tournaments/{id}/crosstable")
+    public String showTournamentCrosstable(@PathVariable Long id, Model model, Authentication authentication) {
+        var tournament = tournamentService.findById(id)
+                .orElse(null);
+        if (tournament == null) {
+            model.addAttribute(ERROR_ATTRIBUTE, TOURNAMENT_NOT_FOUND);
+            return REDIRECT_ADMIN;
+        }
+
+        model.addAttribute("tournament", tournament);
+        model.addAttribute("crosstable", standingsService.getCrosstable(tournament));
+        if (authentication != null) {
+            model.addAttribute("username", authentication.getName());
+        }
+        return "admin/crosstable";
+    }
+
+    @GetMapping(value = "/tournaments/{id}/head-to-head", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<CrosstableRowDto>> getTournamentCrosstable(@PathVariable Long id,
+            WebRequest webRequest, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (dataVersionService.checkNotModified(webRequest, Aggregate.GAMES)) {
+            return null;
+        }
+        return tournamentService.findById(id)
+                .map(tournament -> ResponseEntity.ok(standingsService.getCrosstable(tournament)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @PostMapping("/games/{gameId}/result")
     public String updateGameResult(@PathVariable Long gameId,
             @RequestParam Integer player1Score,
@@ -129,9 +192,16 @@ public class AdminController {
             redirectAttributes.addFlashAttribute(SUCCESS_ATTRIBUTE, message);
 
             return "redirect:/admin/tournaments/" + updatedGame.getTournamentId() + "/games";
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalStateException | IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute(ERROR_ATTRIBUTE, e.getMessage());
             return REDIRECT_ADMIN;
         }
     }
+
+    @PostMapping("/ratings/recompute")
+    public String recomputeRatings(RedirectAttributes redirectAttributes) {
+        var games = ratingService.recomputeAll();
+        redirectAttributes.addFlashAttribute(SUCCESS_ATTRIBUTE, "Ratings recomputed from " + games + " games.");
+        return REDIRECT_ADMIN;
+    }
 }
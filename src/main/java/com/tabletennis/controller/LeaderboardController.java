@@ -0,0 +1,48 @@
+package com.tabletennis.controller;
+
+import com.tabletennis.dto.LeaderboardPageDto;
+import com.tabletennis.service.DataVersionService;
+import com.tabletennis.service.DataVersionService.Aggregate;
+import com.tabletennis.service.RatingService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Controller for the public player leaderboard, paged by the last rating and player ID of the previous page
+ */
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final RatingService ratingService;
+    private final DataVersionService dataVersionService;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LeaderboardPageDto> getLeaderboard(
+            @RequestParam(required = false) Double afterRating,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest,
+            HttpServletResponse response) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (dataVersionService.checkNotModified(webRequest, Aggregate.RATINGS)) {
+            return null;
+        }
+        return ResponseEntity.ok(ratingService.getLeaderboard(afterRating, afterId, size));
+    }
+}
@@ -2,18 +2,24 @@ package com.tabletennis.controller;
 
 import com.tabletennis.dto.RegistrationRequest;
 import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.service.DataVersionService;
+import com.tabletennis.service.DataVersionService.Aggregate;
 import com.tabletennis.service.PlayerService;
 import com.tabletennis.service.RegistrationService;
 import com.tabletennis.service.TournamentService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Controller for handling tournament registrations
@@ -26,13 +32,20 @@ public class RegistrationController {
     private static final String JSON_SUCCESS_TRUE = "{\"success\": true, \"message\": \"Registration successful\"}";
     private static final String JSON_SUCCESS_FALSE_PREFIX = "{\"success\": false, \"message\": \"";
     private static final String JSON_SUFFIX = "\"}";
+    // Public listings may be stored by browsers and proxies, but must be revalidated on every use
+    private static final String LISTING_CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
 
     private final RegistrationService registrationService;
     private final TournamentService tournamentService;
     private final PlayerService playerService;
+    private final DataVersionService dataVersionService;
 
     @GetMapping("/")
-    public String showRegistrationForm(Model model) {
+    public String showRegistrationForm(Model model, WebRequest webRequest, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, LISTING_CACHE_CONTROL);
+        if (dataVersionService.checkNotModified(webRequest, Aggregate.TOURNAMENTS)) {
+            return null;
+        }
         model.addAttribute("registration", new TournamentRegistration());
         model.addAttribute("tournaments", tournamentService.findAvailableForRegistration());
         return "registration";
@@ -68,10 +81,14 @@ public class RegistrationController {
     }
 
     @GetMapping("/registrations")
-    public String showRegistrations(Model model) {
+    public String showRegistrations(Model model, WebRequest webRequest, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, LISTING_CACHE_CONTROL);
+        if (dataVersionService.checkNotModified(webRequest, Aggregate.TOURNAMENTS, Aggregate.REGISTRATIONS)) {
+            return null;
+        }
         var allRegistrations = registrationService.findAllDto();
         model.addAttribute("registrations", allRegistrations);
-        model.addAttribute("tournamentCounts", registrationService.getTournamentCounts());
+        model.addAttribute("tournamentCounts", registrationService.getRegistrationCountsByTournamentId());
         return "registrations";
     }
 }
@@ -1,15 +1,18 @@
 package com.tabletennis.controller;
 
-import java.util.stream.Collectors;
-
 import com.tabletennis.dto.TournamentDto;
 import com.tabletennis.dto.TournamentRequest;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.service.DataVersionService;
+import com.tabletennis.service.DataVersionService.Aggregate;
 import com.tabletennis.service.GameService;
-import com.tabletennis.service.RegistrationService;
 import com.tabletennis.service.TournamentService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Controller for handling tournament management operations
@@ -35,35 +39,26 @@ public class TournamentController {
     private static final String JSON_SUCCESS_FALSE_PREFIX = "{\"success\": false, \"message\": \"";
     private static final String JSON_SUFFIX = "\"}";
 
-    private final RegistrationService registrationService;
     private final TournamentService tournamentService;
     private final GameService gameService;
+    private final DataVersionService dataVersionService;
 
     @GetMapping
-    public String showTournaments(Model model) {
-        var tournaments = tournamentService.findAllOrderByDate();
-        var allRegistrations = registrationService.findAllDto();
-
-        // Create a map of tournament ID to list of registrations
-        var tournamentRegistrations = allRegistrations.stream()
-            .collect(Collectors.groupingBy(r -> r.getTournament() != null ? r.getTournament().getId() : 0L));
-
-        // Create a map of tournament ID to started status
-        var tournamentStartedStatus = tournaments.stream()
-            .collect(Collectors.toMap(
-                TournamentDto::getId,
-                t -> gameService.isTournamentStarted(tournamentService.findById(t.getId()).orElse(null))
-            ));
-
-        model.addAttribute("tournaments", tournaments);
-        model.addAttribute("tournamentRegistrations", tournamentRegistrations);
-        model.addAttribute("tournamentStartedStatus", tournamentStartedStatus);
+    public String showTournaments(Model model, WebRequest webRequest, HttpServletResponse response) {
+        // Admin-only, so only the browser may store it, and must revalidate on every use
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (dataVersionService.checkNotModified(webRequest, Aggregate.TOURNAMENTS, Aggregate.REGISTRATIONS)) {
+            return null;
+        }
+        // Registrations and started status are loaded in bulk with the tournaments
+        model.addAttribute("tournaments", tournamentService.findAllOrderByDate());
         return "tournaments";
     }
 
     @GetMapping("/new")
     public String showCreateTournamentForm(Model model) {
         model.addAttribute("tournament", new TournamentDto());
+        model.addAttribute("formats", Tournament.Format.values());
         return "create-tournament";
     }
 
@@ -0,0 +1,20 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a player's row in the tournament crosstable
+ * Has a result per opponent in registration order, null in the player's own column
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrosstableRowDto {
+    private Long playerId;
+    private String playerName;
+    private List<HeadToHeadDto> results;
+}
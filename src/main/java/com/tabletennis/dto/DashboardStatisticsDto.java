@@ -0,0 +1,20 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for the admin dashboard summary statistics
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStatisticsDto {
+    private long totalTournaments;
+    private long totalRegistrations;
+    private long activeTournaments;
+    private Map<Long, TournamentRegistrationCount> registrationCounts;
+}
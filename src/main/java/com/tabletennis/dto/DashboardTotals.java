@@ -0,0 +1,16 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Projection for the aggregate totals shown on the admin dashboard
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardTotals {
+    private Long totalTournaments;
+    private Long totalRegistrations;
+}
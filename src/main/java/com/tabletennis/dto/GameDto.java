@@ -21,6 +21,12 @@ public class GameDto {
     private String player1Name;
     private String player2Name;
     private Integer gameOrder;
+    private String stage;
+    private String stageLabel;
+    private Integer roundNumber;
+    private Integer tableNumber;
+    private Integer startSlot;
+    private LocalDateTime scheduledStart;
     private Integer player1Score;
     private Integer player2Score;
     private String status;
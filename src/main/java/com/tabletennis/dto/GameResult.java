@@ -0,0 +1,22 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection for the recorded result of a single game
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameResult {
+    private Long gameId;
+    private Long player1Id;
+    private Long player2Id;
+    private Integer player1Score;
+    private Integer player2Score;
+    private LocalDateTime playedAt;
+}
@@ -0,0 +1,19 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * DTO for a player's completed games against one opponent in a tournament
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadToHeadDto {
+    private int played;
+    private int won;
+    private int lost;
+    private int pointsFor;
+    private int pointsAgainst;
+}
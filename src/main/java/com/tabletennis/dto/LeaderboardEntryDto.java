@@ -0,0 +1,18 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * DTO for a player's entry on the rating leaderboard
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+    private Long playerId;
+    private String playerName;
+    private double rating;
+    private int ratedGames;
+}
@@ -0,0 +1,20 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the rating leaderboard
+ * The next page starts after the rating and player ID given; both are null on the last page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardPageDto {
+    private List<LeaderboardEntryDto> entries;
+    private Double nextAfterRating;
+    private Long nextAfterId;
+}
@@ -0,0 +1,23 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * DTO for a player's row in the tournament standings
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingDto {
+    private int position;
+    private Long playerId;
+    private String playerName;
+    private int played;
+    private int won;
+    private int lost;
+    private int pointsFor;
+    private int pointsAgainst;
+    private int pointsDifference;
+}
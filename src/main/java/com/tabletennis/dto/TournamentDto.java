@@ -22,9 +22,12 @@ public class TournamentDto {
     private LocalTime time;
     private String location;
     private Integer maxEntrants;
+    private String format;
+    private String formatLabel;
     private String displayName;
     private List<RegistrationDto> registrations;
     private Integer currentRegistrations;
+    private Integer remainingSlots;
     private boolean isStarted;
     private boolean isFull;
 }
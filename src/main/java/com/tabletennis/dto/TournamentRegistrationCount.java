@@ -0,0 +1,17 @@
+package com.tabletennis.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Projection for the number of registrations for a single tournament
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentRegistrationCount {
+    private Long tournamentId;
+    private String tournamentName;
+    private Long registrations;
+}
@@ -1,5 +1,6 @@
 package com.tabletennis.dto;
 
+import com.tabletennis.entity.Tournament;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -35,4 +36,7 @@ public class TournamentRequest {
     @NotNull(message = "Maximum entrants is required")
     @Positive(message = "Maximum entrants must be positive")
     private Integer maxEntrants;
+
+    // Optional; a new tournament defaults to round robin and an edit without it keeps the current format
+    private Tournament.Format format;
 }
@@ -8,9 +8,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -20,13 +23,19 @@ import java.time.LocalDateTime;
  * Entity representing a game between two players in a tournament
  */
 @Entity
-@Table(name = "games")
+@Table(name = "games", indexes = {
+    @Index(name = "idx_games_tournament_order", columnList = "tournament_id, game_order"),
+    @Index(name = "idx_games_player1", columnList = "player1_id"),
+    @Index(name = "idx_games_player2", columnList = "player2_id")
+}, uniqueConstraints = @UniqueConstraint(
+    name = "uk_games_tournament_fixture", columnNames = {"tournament_id", "stage", "round_number", "bracket_position"}))
 @Data
 @NoArgsConstructor
 public class Game {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,6 +53,26 @@ public class Game {
     @Column(name = "game_order", nullable = false)
     private Integer gameOrder;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 20)
+    private Stage stage = Stage.ROUND_ROBIN;
+
+    @Column(name = "round_number", nullable = false)
+    private Integer roundNumber;
+
+    // Position of the game within its stage and round, which places it in a bracket
+    @Column(name = "bracket_position", nullable = false)
+    private Integer bracketPosition;
+
+    @Column(name = "table_number")
+    private Integer tableNumber;
+
+    @Column(name = "start_slot")
+    private Integer startSlot;
+
+    @Column(name = "scheduled_start")
+    private LocalDateTime scheduledStart;
+
     @Column(name = "player1_score")
     private Integer player1Score;
 
@@ -57,11 +86,15 @@ public class Game {
     @Column(name = "played_at")
     private LocalDateTime playedAt;
 
-    public Game(Tournament tournament, Player player1, Player player2, Integer gameOrder) {
+    public Game(Tournament tournament, Player player1, Player player2, Integer gameOrder,
+            Stage stage, Integer roundNumber, Integer bracketPosition) {
         this.tournament = tournament;
         this.player1 = player1;
         this.player2 = player2;
         this.gameOrder = gameOrder;
+        this.stage = stage;
+        this.roundNumber = roundNumber;
+        this.bracketPosition = bracketPosition;
     }
 
     // Convenience methods for getting player names
@@ -76,4 +109,33 @@ public class Game {
     public enum GameStatus {
         SCHEDULED, IN_PROGRESS, COMPLETED, CANCELLED
     }
+
+    /**
+     * Part of the tournament a game belongs to; knockout stages need a winner
+     */
+    public enum Stage {
+        ROUND_ROBIN("Round robin", false),
+        POOL("Pool", false),
+        SWISS("Swiss", false),
+        KNOCKOUT("Knockout", true),
+        WINNERS("Winners bracket", true),
+        LOSERS("Losers bracket", true),
+        GRAND_FINAL("Grand final", true);
+
+        private final String label;
+        private final boolean knockout;
+
+        Stage(String label, boolean knockout) {
+            this.label = label;
+            this.knockout = knockout;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public boolean isKnockout() {
+            return knockout;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.tabletennis.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,12 +8,16 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,13 +26,20 @@ import java.util.List;
  * Entity representing a table tennis player
  */
 @Entity
-@Table(name = "players")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "players")
+@Table(name = "players", indexes = {
+    @Index(name = "idx_players_rating_id", columnList = "rating desc, id")
+})
 @Data
 @NoArgsConstructor
 public class Player {
 
+    public static final double INITIAL_RATING = 1500;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -43,6 +55,13 @@ public class Player {
     @Column(name = "email", nullable = false, unique = true)
     private String email;
 
+    // Elo rating across all tournaments, and the number of completed games it is based on
+    @Column(name = "rating", nullable = false)
+    private double rating = INITIAL_RATING;
+
+    @Column(name = "rated_games", nullable = false)
+    private int ratedGames;
+
     // Relationship to tournament registrations
     @OneToMany(mappedBy = "player", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<TournamentRegistration> tournamentRegistrations = new ArrayList<>();
@@ -0,0 +1,63 @@
+package com.tabletennis.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording the change a completed game made to a player's rating
+ * Uses identity ids, so a full recompute can rewrite the history with plain batched inserts
+ */
+@Entity
+@Table(name = "player_rating_history", indexes = {
+    @Index(name = "idx_rating_history_player", columnList = "player_id, recorded_at"),
+    @Index(name = "idx_rating_history_game", columnList = "game_id")
+})
+@Data
+@NoArgsConstructor
+public class PlayerRatingHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", nullable = false)
+    private Player player;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Game game;
+
+    @Column(name = "rating_before", nullable = false)
+    private double ratingBefore;
+
+    @Column(name = "rating_after", nullable = false)
+    private double ratingAfter;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    public PlayerRatingHistory(Player player, Game game, double ratingBefore, double ratingAfter,
+            LocalDateTime recordedAt) {
+        this.player = player;
+        this.game = game;
+        this.ratingBefore = ratingBefore;
+        this.ratingAfter = ratingAfter;
+        this.recordedAt = recordedAt;
+    }
+}
@@ -1,13 +1,18 @@
 package com.tabletennis.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
@@ -15,9 +20,12 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,13 +33,21 @@ import java.util.List;
  * Tournament entity representing a table tennis tournament
  */
 @Entity
-@Table(name = "tournaments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tournaments")
+@Table(name = "tournaments", indexes = {
+    @Index(name = "idx_tournaments_date", columnList = "date"),
+    @Index(name = "idx_tournaments_status_date", columnList = "status, date")
+})
 @Data
 @NoArgsConstructor
 public class Tournament {
 
+    private static final DateTimeFormatter DISPLAY_DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yy");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournaments_seq")
+    @SequenceGenerator(name = "tournaments_seq", sequenceName = "tournaments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -58,6 +74,28 @@ public class Tournament {
     @Positive(message = "Maximum entrants must be a positive number")
     private Integer maxEntrants;
 
+    // Lifecycle status and registration count are only changed by the atomic updates in TournamentRepository
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20, updatable = false)
+    private TournamentStatus status = TournamentStatus.OPEN;
+
+    @Column(name = "registration_count", nullable = false, updatable = false)
+    private int registrationCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 30)
+    private Format format = Format.ROUND_ROBIN;
+
+    // Allocation settings the tournament was started with, set by TournamentRepository.updateScheduleSettings
+    @Column(name = "table_count", updatable = false)
+    private Integer tableCount;
+
+    @Column(name = "slot_seconds", updatable = false)
+    private Integer slotSeconds;
+
+    @Column(name = "rest_slots", updatable = false)
+    private Integer restSlots;
+
     // Add the relationship to registrations
     @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<TournamentRegistration> registrations = new ArrayList<>();
@@ -77,9 +115,47 @@ public class Tournament {
      */
     public String getDisplayName() {
         if (date != null) {
-            var formatter = java.time.format.DateTimeFormatter.ofPattern("dd MMM yy");
-            return name + " - " + date.format(formatter);
+            return name + " - " + date.format(DISPLAY_DATE_FORMAT);
         }
         return name;
     }
+
+    /**
+     * Check if the tournament has been started (games have been generated)
+     */
+    public boolean isStarted() {
+        return status == TournamentStatus.STARTED || status == TournamentStatus.COMPLETED;
+    }
+
+    /**
+     * Check if the tournament has reached its maximum number of entrants
+     */
+    public boolean isFull() {
+        return maxEntrants != null && registrationCount >= maxEntrants;
+    }
+
+    public enum TournamentStatus {
+        OPEN, FULL, STARTED, COMPLETED
+    }
+
+    /**
+     * How entrants are drawn against each other; see TournamentFormat for each format's games
+     */
+    public enum Format {
+        ROUND_ROBIN("Round robin"),
+        SINGLE_ELIMINATION("Single elimination"),
+        DOUBLE_ELIMINATION("Double elimination"),
+        POOLS_KNOCKOUT("Pools then knockout"),
+        SWISS("Swiss system");
+
+        private final String label;
+
+        Format(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
 }
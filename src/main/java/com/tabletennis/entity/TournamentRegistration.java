@@ -1,5 +1,6 @@
 package com.tabletennis.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -7,7 +8,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,13 +20,15 @@ import lombok.NoArgsConstructor;
  * This is a join table between Player and Tournament
  */
 @Entity
-@Table(name = "tournament_registrations")
+@Table(name = "tournament_registrations", uniqueConstraints = @UniqueConstraint(
+    name = "uk_registration_tournament_player", columnNames = {"tournament_id", "player_id"}))
 @Data
 @NoArgsConstructor
 public class TournamentRegistration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_registrations_seq")
+    @SequenceGenerator(name = "tournament_registrations_seq", sequenceName = "tournament_registrations_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Player is required")
@@ -36,6 +41,10 @@ public class TournamentRegistration {
     @JoinColumn(name = "tournament_id", nullable = false)
     private Tournament tournament;
 
+    // Seed from 1, highest rated first, fixed when the tournament starts
+    @Column(name = "seed")
+    private Integer seed;
+
     public TournamentRegistration(Player player, Tournament tournament) {
         this.player = player;
         this.tournament = tournament;
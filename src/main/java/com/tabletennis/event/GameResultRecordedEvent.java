@@ -0,0 +1,15 @@
+package com.tabletennis.event;
+
+/**
+ * Published when a game result is recorded, including when a recorded result is corrected
+ *
+ * @param tournamentId the ID of the tournament the game belongs to
+ * @param gameId the ID of the game
+ * @param player1Id the ID of the first player
+ * @param player2Id the ID of the second player
+ * @param player1Score the first player's score
+ * @param player2Score the second player's score
+ */
+public record GameResultRecordedEvent(Long tournamentId, Long gameId, Long player1Id, Long player2Id,
+        int player1Score, int player2Score) {
+}
@@ -0,0 +1,9 @@
+package com.tabletennis.event;
+
+/**
+ * Published when a tournament's games are created or a game result is recorded
+ *
+ * @param tournamentId the ID of the tournament the games belong to
+ */
+public record GamesChangedEvent(Long tournamentId) {
+}
@@ -0,0 +1,7 @@
+package com.tabletennis.event;
+
+/**
+ * Published when player ratings change, after a game result or a full recompute
+ */
+public record RatingsChangedEvent() {
+}
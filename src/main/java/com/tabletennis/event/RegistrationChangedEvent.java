@@ -0,0 +1,9 @@
+package com.tabletennis.event;
+
+/**
+ * Published when a registration is added to a tournament
+ *
+ * @param tournamentId the ID of the tournament the registration belongs to
+ */
+public record RegistrationChangedEvent(Long tournamentId) {
+}
@@ -0,0 +1,26 @@
+package com.tabletennis.event;
+
+import com.tabletennis.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts the cached tournament listings when a tournament changes
+ * Runs after the publishing transaction commits, so a reload cannot cache data that is about to roll back,
+ * and ahead of other listeners, so a bumped data version never serves evicted data
+ */
+@Component
+@Slf4j
+public class TournamentCacheInvalidator {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @CacheEvict(cacheNames = {CacheConfig.TOURNAMENT_SUMMARIES, CacheConfig.OPEN_TOURNAMENTS}, allEntries = true)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        log.debug("Evicting cached tournament listings after change to tournament {}", event.tournamentId());
+    }
+}
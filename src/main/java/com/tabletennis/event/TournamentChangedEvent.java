@@ -0,0 +1,9 @@
+package com.tabletennis.event;
+
+/**
+ * Published when a change affects how a tournament is listed: its details, registrations or lifecycle status
+ *
+ * @param tournamentId the ID of the changed tournament
+ */
+public record TournamentChangedEvent(Long tournamentId) {
+}
@@ -0,0 +1,21 @@
+package com.tabletennis.event;
+
+import com.tabletennis.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts a cached user when it changes, after the publishing transaction commits
+ */
+@Component
+@Slf4j
+public class UserCacheInvalidator {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#event.username()")
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("Evicting cached user {}", event.username());
+    }
+}
@@ -0,0 +1,9 @@
+package com.tabletennis.event;
+
+/**
+ * Published when a user's email is changed, so their cached authentication details are refreshed
+ *
+ * @param username the username of the changed user
+ */
+public record UserChangedEvent(String username) {
+}
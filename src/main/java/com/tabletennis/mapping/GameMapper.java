@@ -25,6 +25,12 @@ public class GameMapper {
         dto.setTournamentId(game.getTournament().getId());
         dto.setTournamentName(game.getTournament().getName());
         dto.setGameOrder(game.getGameOrder());
+        dto.setStage(game.getStage().name());
+        dto.setStageLabel(game.getStage().getLabel());
+        dto.setRoundNumber(game.getRoundNumber());
+        dto.setTableNumber(game.getTableNumber());
+        dto.setStartSlot(game.getStartSlot());
+        dto.setScheduledStart(game.getScheduledStart());
         dto.setPlayer1Score(game.getPlayer1Score());
         dto.setPlayer2Score(game.getPlayer2Score());
         dto.setStatus(game.getStatus().name());
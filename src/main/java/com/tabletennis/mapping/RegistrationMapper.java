@@ -1,11 +1,21 @@
 package com.tabletennis.mapping;
 
+import com.tabletennis.dto.PlayerDto;
 import com.tabletennis.dto.RegistrationDto;
+import com.tabletennis.dto.TournamentDto;
+import com.tabletennis.entity.Player;
+import com.tabletennis.entity.Tournament;
 import com.tabletennis.entity.TournamentRegistration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Service for mapping TournamentRegistration entities to DTOs
  */
@@ -21,14 +31,32 @@ public class RegistrationMapper {
      * Convert TournamentRegistration entity to DTO
      */
     public RegistrationDto convertToDto(TournamentRegistration registration) {
-        var dto = new RegistrationDto();
-        dto.setId(registration.getId());
+        // Convert player and tournament to DTOs using their mappers
+        return convertToDto(registration,
+            playerMapper.convertToDto(registration.getPlayer()),
+            tournamentMapper.convertToDto(registration.getTournament()));
+    }
+
+    /**
+     * Convert a list of registrations to DTOs, sharing one TournamentDto per tournament and one PlayerDto per player.
+     * The shared DTOs are referenced from several registrations, so callers must treat them as read-only.
+     */
+    public List<RegistrationDto> convertToDtos(Collection<TournamentRegistration> registrations) {
+        var tournamentDtos = new HashMap<Long, TournamentDto>();
+        var playerDtos = new HashMap<Long, PlayerDto>();
 
-        // Convert player to DTO using PlayerMapper
-        dto.setPlayer(playerMapper.convertToDto(registration.getPlayer()));
+        return registrations.stream()
+            .map(registration -> convertToDto(registration,
+                shared(playerDtos, registration.getPlayer(), Player::getId, playerMapper::convertToDto),
+                shared(tournamentDtos, registration.getTournament(), Tournament::getId, tournamentMapper::convertToDto)))
+            .toList();
+    }
 
-        // Convert tournament to DTO using TournamentMapper
-        dto.setTournament(tournamentMapper.convertToDto(registration.getTournament()));
+    private RegistrationDto convertToDto(TournamentRegistration registration, PlayerDto playerDto, TournamentDto tournamentDto) {
+        var dto = new RegistrationDto();
+        dto.setId(registration.getId());
+        dto.setPlayer(playerDto);
+        dto.setTournament(tournamentDto);
 
         // Set flattened fields for easy access
         dto.setTournamentName(registration.getTournament().getName());
@@ -37,4 +65,15 @@ public class RegistrationMapper {
 
         return dto;
     }
+
+    /**
+     * Reuse the DTO already mapped for an entity with the same ID; unsaved entities are always mapped afresh
+     */
+    private static <E, D> D shared(Map<Long, D> cache, E entity, Function<E, Long> idOf, Function<E, D> mapper) {
+        var id = idOf.apply(entity);
+        if (id == null) {
+            return mapper.apply(entity);
+        }
+        return cache.computeIfAbsent(id, key -> mapper.apply(entity));
+    }
 }
@@ -19,6 +19,7 @@ public class TournamentMapper {
 
     /**
      * Convert Tournament entity to DTO
+     * Registration count and started/full flags come from the maintained status columns
      */
     public TournamentDto convertToDto(Tournament tournament) {
         var dto = new TournamentDto();
@@ -29,19 +30,22 @@ public class TournamentMapper {
         dto.setTime(tournament.getTime());
         dto.setLocation(tournament.getLocation());
         dto.setMaxEntrants(tournament.getMaxEntrants());
+        dto.setFormat(tournament.getFormat().name());
+        dto.setFormatLabel(tournament.getFormat().getLabel());
         dto.setDisplayName(tournament.getDisplayName());
+        dto.setCurrentRegistrations(tournament.getRegistrationCount());
+        dto.setRemainingSlots(Math.max(tournament.getMaxEntrants() - tournament.getRegistrationCount(), 0));
+        dto.setStarted(tournament.isStarted());
+        dto.setFull(tournament.isFull());
         return dto;
     }
 
     /**
      * Convert Tournament entity to DTO with registrations
      */
-    public TournamentDto convertToDto(Tournament tournament, List<RegistrationDto> registrations, boolean isStarted) {
+    public TournamentDto convertToDto(Tournament tournament, List<RegistrationDto> registrations) {
         var dto = convertToDto(tournament);
         dto.setRegistrations(registrations);
-        dto.setCurrentRegistrations(registrations != null ? registrations.size() : 0);
-        dto.setStarted(isStarted);
-        dto.setFull(registrations != null && registrations.size() >= tournament.getMaxEntrants());
         return dto;
     }
 
@@ -57,6 +61,9 @@ public class TournamentMapper {
         tournament.setTime(dto.getTime());
         tournament.setLocation(dto.getLocation());
         tournament.setMaxEntrants(dto.getMaxEntrants());
+        if (dto.getFormat() != null) {
+            tournament.setFormat(Tournament.Format.valueOf(dto.getFormat()));
+        }
         return tournament;
     }
 }
@@ -1,11 +1,19 @@
 package com.tabletennis.repository;
 
+import com.tabletennis.dto.GameResult;
 import com.tabletennis.entity.Game;
 import com.tabletennis.entity.Tournament;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for Game entities
@@ -18,9 +26,44 @@ public interface GameRepository extends JpaRepository<Game, Long> {
      */
     List<Game> findByTournamentOrderByGameOrderAsc(Tournament tournament);
 
+    /**
+     * Find the full schedule for a tournament in order, fetching both players and the tournament in the same query
+     */
+    @Query("select g from Game g join fetch g.tournament join fetch g.player1 join fetch g.player2 "
+            + "where g.tournament = :tournament order by g.gameOrder asc")
+    List<Game> findScheduleByTournament(@Param("tournament") Tournament tournament);
+
     /**
      * Check if games exist for a tournament
      */
     boolean existsByTournament(Tournament tournament);
 
+    /**
+     * Check if a tournament has games in any of the given statuses
+     */
+    boolean existsByTournamentAndStatusIn(Tournament tournament, Collection<Game.GameStatus> statuses);
+
+    /**
+     * Find the results of a tournament's games in the given status, without loading the games or players
+     */
+    @Query("select new com.tabletennis.dto.GameResult("
+            + "g.id, g.player1.id, g.player2.id, g.player1Score, g.player2Score, g.playedAt) "
+            + "from Game g where g.tournament.id = :tournamentId and g.status = :status")
+    List<GameResult> findResultsByTournamentId(@Param("tournamentId") Long tournamentId,
+            @Param("status") Game.GameStatus status);
+
+    /**
+     * Count the games in the given status across all tournaments
+     */
+    long countByStatus(Game.GameStatus status);
+
+    /**
+     * Stream the results of all games in the given status, in the order they were played
+     * Rows are fetched in blocks rather than all at once; the stream must be consumed in a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.tabletennis.dto.GameResult("
+            + "g.id, g.player1.id, g.player2.id, g.player1Score, g.player2Score, g.playedAt) "
+            + "from Game g where g.status = :status order by g.playedAt asc, g.id asc")
+    Stream<GameResult> streamResultsInPlayingOrder(@Param("status") Game.GameStatus status);
 }
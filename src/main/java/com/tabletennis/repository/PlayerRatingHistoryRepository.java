@@ -0,0 +1,24 @@
+package com.tabletennis.repository;
+
+import com.tabletennis.entity.PlayerRatingHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for PlayerRatingHistory entities
+ */
+@Repository
+public interface PlayerRatingHistoryRepository extends JpaRepository<PlayerRatingHistory, Long> {
+
+    /**
+     * Find the rating changes made by a game
+     */
+    List<PlayerRatingHistory> findByGameId(Long gameId);
+
+    /**
+     * Find a player's rating changes, oldest first
+     */
+    List<PlayerRatingHistory> findByPlayerIdOrderByRecordedAtAscIdAsc(Long playerId);
+}
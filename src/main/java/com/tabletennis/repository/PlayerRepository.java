@@ -1,9 +1,19 @@
 package com.tabletennis.repository;
 
 import com.tabletennis.entity.Player;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,5 +25,47 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     /**
      * Find a player by email address
      */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "player-queries")
+    })
     Optional<Player> findByEmail(String email);
+
+    /**
+     * Find the ID of the player with the given lower-case email, comparing case-insensitively
+     * Uses the lower(email) index on PostgreSQL; the earliest player wins if emails differ only by case
+     */
+    @Query("select p.id from Player p where lower(p.email) = :normalizedEmail order by p.id limit 1")
+    Optional<Long> findIdByNormalizedEmail(@Param("normalizedEmail") String normalizedEmail);
+
+    /**
+     * Find the given players, locking their rows until the transaction ends
+     * Locked in ID order, so two transactions locking the same players cannot deadlock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Player p where p.id in :ids order by p.id")
+    List<Player> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find every player, locking their rows until the transaction ends
+     * Locked in ID order, like {@link #findAllByIdForUpdate}, so it waits for and then holds off rating updates
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Player p order by p.id")
+    List<Player> findAllForUpdate();
+
+    /**
+     * Find the highest rated players who have played a rated game, for the first leaderboard page
+     */
+    @Query("select p from Player p where p.ratedGames > 0 order by p.rating desc, p.id asc")
+    List<Player> findLeaderboard(Limit limit);
+
+    /**
+     * Find the rated players ranked after the given rating and ID, for the following leaderboard pages
+     * Seeks on the (rating desc, id) index rather than skipping rows, so every page costs the same
+     */
+    @Query("select p from Player p where p.ratedGames > 0 "
+            + "and (p.rating < :rating or (p.rating = :rating and p.id > :id)) "
+            + "order by p.rating desc, p.id asc")
+    List<Player> findLeaderboardAfter(@Param("rating") double rating, @Param("id") Long id, Limit limit);
 }
@@ -1,18 +1,37 @@
 package com.tabletennis.repository;
 
+import com.tabletennis.dto.TournamentRegistrationCount;
+import com.tabletennis.entity.Player;
 import com.tabletennis.entity.Tournament;
 import com.tabletennis.entity.TournamentRegistration;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TournamentRegistrationRepository extends JpaRepository<TournamentRegistration, Long> {
 
-    // Find all registrations for a specific tournament
-    List<TournamentRegistration> findByTournament(Tournament tournament);
+    // Find all registrations for a specific tournament, fetching the players in the same query
+    @Query("select r from TournamentRegistration r join fetch r.player where r.tournament = :tournament order by r.id")
+    List<TournamentRegistration> findByTournament(@Param("tournament") Tournament tournament);
 
     // Find all registrations for a tournament by ID
     List<TournamentRegistration> findByTournamentId(Long tournamentId);
+
+    // Check if a player is already registered for a tournament
+    boolean existsByPlayerAndTournament(Player player, Tournament tournament);
+
+    // Find all registrations for the given tournaments, fetching player and tournament in the same query
+    @Query("select r from TournamentRegistration r join fetch r.player join fetch r.tournament "
+            + "where r.tournament.id in :tournamentIds order by r.id")
+    List<TournamentRegistration> findWithPlayerByTournamentIdIn(@Param("tournamentIds") Collection<Long> tournamentIds);
+
+    // Count registrations per tournament with a single grouped query
+    @Query("select new com.tabletennis.dto.TournamentRegistrationCount(t.id, t.name, count(r.id)) "
+            + "from TournamentRegistration r join r.tournament t group by t.id, t.name order by t.name, t.id")
+    List<TournamentRegistrationCount> countRegistrationsByTournament();
 }
@@ -1,10 +1,24 @@
 package com.tabletennis.repository;
 
+import com.tabletennis.dto.DashboardTotals;
 import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.Tournament.TournamentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Tournament entity
@@ -15,5 +29,96 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     /**
      * Find all tournaments ordered by date in ascending order
      */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "tournament-queries")
+    })
     List<Tournament> findAllByOrderByDateAsc();
+
+    /**
+     * Count tournaments dated within the given window (inclusive)
+     */
+    long countByDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Find tournaments dated on or after the given date, soonest first
+     */
+    List<Tournament> findByDateGreaterThanEqualOrderByDateAscTimeAsc(LocalDate date, Limit limit);
+
+    /**
+     * Find tournaments dated before the given date, most recent first
+     */
+    List<Tournament> findByDateLessThanOrderByDateDescTimeDesc(LocalDate date, Limit limit);
+
+    /**
+     * Find tournaments dated within the given window (inclusive), soonest first
+     */
+    List<Tournament> findByDateBetweenOrderByDateAscTimeAsc(LocalDate from, LocalDate to, Limit limit);
+
+    /**
+     * Find tournaments with the given lifecycle status, soonest first
+     */
+    List<Tournament> findByStatusOrderByDateAsc(TournamentStatus status);
+
+    /**
+     * Atomically record a new registration for a tournament that is still open,
+     * moving it to the full status when the last place is taken
+     *
+     * @return the number of tournaments updated, 0 when the tournament is not open
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Tournament t set t.registrationCount = t.registrationCount + 1, "
+            + "t.status = case when t.registrationCount + 1 >= t.maxEntrants then :full else :open end "
+            + "where t.id = :id and t.status = :open")
+    int incrementRegistrationCount(@Param("id") Long id,
+                                   @Param("open") TournamentStatus open,
+                                   @Param("full") TournamentStatus full);
+
+    /**
+     * Re-evaluate whether an open or full tournament is full after its maximum entrants changed
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Tournament t set t.status = case when t.registrationCount >= t.maxEntrants then :full else :open end "
+            + "where t.id = :id and t.status in (:open, :full)")
+    int refreshCapacityStatus(@Param("id") Long id,
+                              @Param("open") TournamentStatus open,
+                              @Param("full") TournamentStatus full);
+
+    /**
+     * Atomically move a tournament to a new status if it is currently in one of the expected statuses
+     *
+     * @return the number of tournaments updated, 0 when the tournament was not in an expected status
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Tournament t set t.status = :to where t.id = :id and t.status in :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") Collection<TournamentStatus> from,
+                     @Param("to") TournamentStatus to);
+
+    /**
+     * Find a tournament, locking its row until the transaction ends so changes to its games are made one at a time
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Tournament t where t.id = :id")
+    Optional<Tournament> lockById(@Param("id") Long id);
+
+    /**
+     * Record the table allocation settings a tournament was started with
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Tournament t set t.tableCount = :tableCount, t.slotSeconds = :slotSeconds, "
+            + "t.restSlots = :restSlots where t.id = :id")
+    int updateScheduleSettings(@Param("id") Long id,
+                               @Param("tableCount") int tableCount,
+                               @Param("slotSeconds") int slotSeconds,
+                               @Param("restSlots") int restSlots);
+
+    /**
+     * Aggregate the dashboard totals in a single statement: all tournaments and all registrations
+     */
+    @Query("select new com.tabletennis.dto.DashboardTotals("
+            + "count(t.id), "
+            + "(select count(r.id) from TournamentRegistration r)) "
+            + "from Tournament t")
+    DashboardTotals aggregateDashboardTotals();
 }
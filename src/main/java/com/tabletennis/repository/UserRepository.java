@@ -1,7 +1,10 @@
 package com.tabletennis.repository;
 
 import com.tabletennis.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,6 +20,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param username the username to search for
      * @return Optional containing the user if found
      */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "user-queries")
+    })
     Optional<User> findByUsername(String username);
 
     /**
@@ -24,6 +31,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param email the email to search for
      * @return Optional containing the user if found
      */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "user-queries")
+    })
     Optional<User> findByEmail(String email);
 
     /**
@@ -0,0 +1,25 @@
+package com.tabletennis.service;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Security principal for a logged-in user
+ * Carries the email setup flag loaded with the user, so the login flow does not query for it again
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class AuthenticatedUser extends User {
+
+    private final boolean emailSetupRequired;
+
+    public AuthenticatedUser(String username, String password, boolean enabled,
+            Collection<? extends GrantedAuthority> authorities, boolean emailSetupRequired) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.emailSetupRequired = emailSetupRequired;
+    }
+}
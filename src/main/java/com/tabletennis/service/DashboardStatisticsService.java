@@ -0,0 +1,39 @@
+package com.tabletennis.service;
+
+import com.tabletennis.dto.DashboardStatisticsDto;
+import com.tabletennis.repository.TournamentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for the admin dashboard statistics
+ * All figures are computed with aggregate queries so the cost does not grow with the number of registrations loaded
+ * The active count is an index range scan on the tournament date
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStatisticsService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentService tournamentService;
+    private final RegistrationService registrationService;
+
+    /**
+     * Get dashboard totals, the number of tournaments starting within the next 2 weeks
+     * and registration counts keyed by tournament ID
+     */
+    public DashboardStatisticsDto getStatistics() {
+        var totals = tournamentRepository.aggregateDashboardTotals();
+
+        var registrationCounts = registrationService.getRegistrationCountsByTournamentId();
+
+        return new DashboardStatisticsDto(
+            totals.getTotalTournaments(),
+            totals.getTotalRegistrations(),
+            tournamentService.countActiveTournaments(),
+            registrationCounts
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.tabletennis.service;
+
+import com.tabletennis.event.GamesChangedEvent;
+import com.tabletennis.event.RatingsChangedEvent;
+import com.tabletennis.event.RegistrationChangedEvent;
+import com.tabletennis.event.TournamentChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks a version per data aggregate, bumped after each committed write, to answer conditional GETs
+ * Versions are held in memory and prefixed with the startup time, so ETags from a previous run never match
+ */
+@Service
+@Slf4j
+public class DataVersionService {
+
+    public enum Aggregate {
+        TOURNAMENTS, REGISTRATIONS, GAMES, RATINGS
+    }
+
+    private final String epoch;
+    private final Map<Aggregate, AtomicReference<Version>> versions = new EnumMap<>(Aggregate.class);
+
+    public DataVersionService() {
+        var startedAt = now();
+        this.epoch = Long.toString(startedAt.toEpochMilli(), 36);
+        Arrays.stream(Aggregate.values())
+            .forEach(aggregate -> versions.put(aggregate, new AtomicReference<>(new Version(0, startedAt))));
+    }
+
+    /**
+     * Check the request's If-None-Match and If-Modified-Since headers against the given aggregates
+     * Sets the ETag and Last-Modified headers; when this returns true the response is a 304 and needs no body
+     * Read the version before loading the data, so a page is never tagged newer than its content
+     */
+    public boolean checkNotModified(WebRequest webRequest, Aggregate... aggregates) {
+        return webRequest.checkNotModified(etag(aggregates), lastModified(aggregates).toEpochMilli());
+    }
+
+    /**
+     * Strong ETag covering the current versions of the given aggregates
+     */
+    public String etag(Aggregate... aggregates) {
+        return Arrays.stream(aggregates)
+            .map(aggregate -> Long.toString(versions.get(aggregate).get().number()))
+            .collect(Collectors.joining("-", "\"" + epoch + "-", "\""));
+    }
+
+    /**
+     * Time of the latest committed write to any of the given aggregates, or startup if there has been none
+     */
+    public Instant lastModified(Aggregate... aggregates) {
+        return Arrays.stream(aggregates)
+            .map(aggregate -> versions.get(aggregate).get().modifiedAt())
+            .max(Instant::compareTo)
+            .orElseThrow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        bump(Aggregate.TOURNAMENTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationChanged(RegistrationChangedEvent event) {
+        bump(Aggregate.REGISTRATIONS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesChanged(GamesChangedEvent event) {
+        bump(Aggregate.GAMES);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingsChanged(RatingsChangedEvent event) {
+        bump(Aggregate.RATINGS);
+    }
+
+    private void bump(Aggregate aggregate) {
+        var version = versions.get(aggregate).updateAndGet(current -> new Version(current.number() + 1, now()));
+        log.debug("{} data version is now {}", aggregate, version.number());
+    }
+
+    /**
+     * HTTP dates have second precision, so the modified time is truncated to match
+     */
+    private Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private record Version(long number, Instant modifiedAt) {
+    }
+}
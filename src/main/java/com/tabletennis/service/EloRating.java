@@ -0,0 +1,86 @@
+package com.tabletennis.service;
+
+import com.tabletennis.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * Elo rating calculation, for a single result and for replaying a whole history of results
+ * A game scores 1 for a win, 0.5 for a draw and 0 for a loss. Ratings move faster while a player
+ * has few rated games, so newcomers settle near their level quickly.
+ */
+public final class EloRating {
+
+    static final int PROVISIONAL_GAMES = 20;
+    static final double PROVISIONAL_K_FACTOR = 32;
+    static final double K_FACTOR = 16;
+
+    private EloRating() {
+    }
+
+    /**
+     * Ratings of both players, before and after each replayed game, by the game's position in the replay
+     */
+    public record Replay(double[] ratings, int[] ratedGames,
+            double[] player1Before, double[] player1After, double[] player2Before, double[] player2After) {
+    }
+
+    /**
+     * Score of the first player from the game score: 1 for a win, 0.5 for a draw, 0 for a loss
+     */
+    public static double score(int player1Score, int player2Score) {
+        if (player1Score == player2Score) {
+            return 0.5;
+        }
+        return player1Score > player2Score ? 1 : 0;
+    }
+
+    /**
+     * Expected score of a player against an opponent
+     */
+    public static double expectedScore(double rating, double opponentRating) {
+        return 1 / (1 + Math.pow(10, (opponentRating - rating) / 400));
+    }
+
+    /**
+     * Rating change for a player from one game, given the player's score in it
+     */
+    public static double change(double rating, int ratedGames, double opponentRating, double score) {
+        var kFactor = ratedGames < PROVISIONAL_GAMES ? PROVISIONAL_K_FACTOR : K_FACTOR;
+        return kFactor * (score - expectedScore(rating, opponentRating));
+    }
+
+    /**
+     * Replay games in the order given, every player starting from the initial rating
+     * Players are indexed by ID, so IDs must be below the player slot count
+     */
+    public static Replay replay(int playerSlots, int[] player1Ids, int[] player2Ids, double[] player1Scores) {
+        var gameCount = player1Ids.length;
+        var ratings = new double[playerSlots];
+        var ratedGames = new int[playerSlots];
+        Arrays.fill(ratings, Player.INITIAL_RATING);
+        var player1Before = new double[gameCount];
+        var player1After = new double[gameCount];
+        var player2Before = new double[gameCount];
+        var player2After = new double[gameCount];
+
+        for (var game = 0; game < gameCount; game++) {
+            var player1 = player1Ids[game];
+            var player2 = player2Ids[game];
+            var rating1 = ratings[player1];
+            var rating2 = ratings[player2];
+            var score = player1Scores[game];
+
+            ratings[player1] = rating1 + change(rating1, ratedGames[player1], rating2, score);
+            ratings[player2] = rating2 + change(rating2, ratedGames[player2], rating1, 1 - score);
+            ratedGames[player1]++;
+            ratedGames[player2]++;
+
+            player1Before[game] = rating1;
+            player1After[game] = ratings[player1];
+            player2Before[game] = rating2;
+            player2After[game] = ratings[player2];
+        }
+        return new Replay(ratings, ratedGames, player1Before, player1After, player2Before, player2After);
+    }
+}
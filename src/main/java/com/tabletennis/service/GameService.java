@@ -1,18 +1,34 @@
 package com.tabletennis.service;
 
 import com.tabletennis.dto.GameDto;
-import com.tabletennis.dto.TournamentDto;
 import com.tabletennis.entity.Game;
 import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.Tournament.TournamentStatus;
+import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.event.GameResultRecordedEvent;
+import com.tabletennis.event.GamesChangedEvent;
+import com.tabletennis.event.TournamentChangedEvent;
 import com.tabletennis.mapping.GameMapper;
-import com.tabletennis.mapping.TournamentMapper;
 import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.TournamentRepository;
+import com.tabletennis.service.format.Fixture;
+import com.tabletennis.service.format.Result;
+import com.tabletennis.service.format.TournamentFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 /**
@@ -24,17 +40,32 @@ import java.util.stream.IntStream;
 public class GameService {
 
     private final GameRepository gameRepository;
+    private final TournamentRepository tournamentRepository;
     private final RegistrationService registrationService;
     private final GameMapper gameMapper;
-    private final TournamentMapper tournamentMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Create round-robin games for a tournament
-     * Each player plays against every other player exactly once
+     * Create the opening games of a tournament, as its format decides
+     * Entrants are seeded by rating, highest first, keeping registration order between equal ratings
+     * Round robin creates every game now; the other formats create later rounds as results arrive
+     * Games are allocated a table and a start slot, from the tournament start, by {@link TableScheduler}
+     * Games are inserted in JDBC batches when the transaction flushes
      */
-    public List<GameDto> startTournament(Tournament tournament) {
-        // Check if tournament already has games
-        if (gameRepository.existsByTournament(tournament)) {
+    @Transactional
+    public List<GameDto> startTournament(Tournament tournament, int tableCount, Duration slotLength, int restSlots) {
+        if (tableCount < 1) {
+            throw new IllegalArgumentException("At least one table is needed");
+        }
+        if (slotLength.isNegative() || slotLength.isZero()) {
+            throw new IllegalArgumentException("Slot length must be positive");
+        }
+        if (restSlots < 0) {
+            throw new IllegalArgumentException("Rest slots cannot be negative");
+        }
+
+        // Check if tournament has already been started
+        if (tournament.isStarted()) {
             throw new IllegalStateException("Tournament has already been started");
         }
 
@@ -45,21 +76,65 @@ public class GameService {
             throw new IllegalStateException("Need at least 2 players to start tournament");
         }
 
-        // Create round-robin games using Stream API
-        var gameOrderCounter = new AtomicInteger(1);
-
-        var games = IntStream.range(0, registrations.size())
-                .boxed()
-                .flatMap(i -> IntStream.range(i + 1, registrations.size())
-                        .mapToObj(j -> {
-                            var player1 = registrations.get(i).getPlayer();
-                            var player2 = registrations.get(j).getPlayer();
-                            return new Game(tournament, player1, player2, gameOrderCounter.getAndIncrement());
-                        }))
+        // Claim the tournament atomically so two concurrent starts cannot both generate games
+        var startableStatuses = List.of(TournamentStatus.OPEN, TournamentStatus.FULL);
+        if (tournamentRepository.updateStatus(tournament.getId(), startableStatuses, TournamentStatus.STARTED) == 0) {
+            throw new IllegalStateException("Tournament has already been started");
+        }
+        tournament.setStatus(TournamentStatus.STARTED);
+        eventPublisher.publishEvent(new TournamentChangedEvent(tournament.getId()));
+
+        // Later rounds of progressive formats are allocated with the same settings as they are created
+        var slotSeconds = Math.toIntExact(slotLength.toSeconds());
+        tournamentRepository.updateScheduleSettings(tournament.getId(), tableCount, slotSeconds, restSlots);
+        tournament.setTableCount(tableCount);
+        tournament.setSlotSeconds(slotSeconds);
+        tournament.setRestSlots(restSlots);
+
+        var entrants = registrations.stream()
+                .sorted(Comparator.comparingDouble(
+                        (TournamentRegistration registration) -> registration.getPlayer().getRating()).reversed())
+                .toList();
+        IntStream.range(0, entrants.size()).forEach(seed -> entrants.get(seed).setSeed(seed + 1));
+
+        // Draw the opening games, then allocate them to tables and slots round by round
+        var fixtures = TournamentFormat.of(tournament.getFormat()).fixtures(entrants.size(), List.of()).stream()
+                .sorted(Comparator.comparingInt(Fixture::round))
+                .toList();
+        // The fixtures are kept to build the games from; the scheduler only needs their players
+        var player1 = fixtures.stream().mapToInt(Fixture::player1).toArray();
+        var player2 = fixtures.stream().mapToInt(Fixture::player2).toArray();
+        var availableFrom = new int[entrants.size()];
+        Arrays.fill(availableFrom, 1);
+        var allocation = TableScheduler.allocate(player1, player2, availableFrom, tableCount, restSlots);
+        var startsAt = LocalDateTime.of(tournament.getDate(), tournament.getTime());
+
+        // Games are numbered in playing order
+        var playingOrder = allocation.playingOrder();
+        var games = IntStream.range(0, playingOrder.length)
+                .mapToObj(position -> {
+                    var index = playingOrder[position];
+                    var fixture = fixtures.get(index);
+                    var game = new Game(tournament,
+                            entrants.get(fixture.player1()).getPlayer(),
+                            entrants.get(fixture.player2()).getPlayer(),
+                            position + 1,
+                            fixture.stage(),
+                            fixture.round(),
+                            fixture.position());
+                    var slot = allocation.slots()[index];
+                    game.setTableNumber(allocation.tables()[index]);
+                    game.setStartSlot(slot);
+                    game.setScheduledStart(startsAt.plus(slotLength.multipliedBy(slot - 1L)));
+                    return game;
+                })
                 .toList();
+        log.info("Scheduled {} {} games for tournament {} in {} slots on {} tables", games.size(),
+                tournament.getFormat(), tournament.getId(), allocation.slotCount(), tableCount);
 
         // Save all games
         var savedGames = gameRepository.saveAll(games);
+        eventPublisher.publishEvent(new GamesChangedEvent(tournament.getId()));
         return savedGames.stream()
                 .map(gameMapper::convertToDto)
                 .toList();
@@ -67,41 +142,174 @@ public class GameService {
 
     /**
      * Get all games for a tournament in order as DTOs
+     * Players are fetched with the games so mapping does not trigger a select per game
      */
     public List<GameDto> getGamesForTournamentDto(Tournament tournament) {
-        return gameRepository.findByTournamentOrderByGameOrderAsc(tournament).stream()
+        return gameRepository.findScheduleByTournament(tournament).stream()
             .map(gameMapper::convertToDto)
             .toList();
     }
 
     /**
-     * Check if tournament has been started (has games) - takes TournamentDto
-     */
-    public boolean isTournamentStarted(TournamentDto tournamentDto) {
-        var tournament = tournamentMapper.convertToEntity(tournamentDto);
-        return gameRepository.existsByTournament(tournament);
-    }
-
-    /**
-     * Check if tournament has been started (has games) - for internal use with entities
+     * Check if tournament has been started, from its persisted lifecycle status
      */
     public boolean isTournamentStarted(Tournament tournament) {
-        return gameRepository.existsByTournament(tournament);
+        return tournament.isStarted();
     }
 
     /**
      * Update game score and return as DTO
+     * Also used to correct a recorded score; the standings replace the game's previous result
+     * Games the result decides in the tournament's format are created, or have their players corrected
+     * The tournament is marked completed once none of its games are left to play
      */
+    @Transactional
     public GameDto updateGameScore(Long gameId, int player1Score, int player2Score) {
         var game = gameRepository.findById(gameId)
             .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        if (player1Score == player2Score && game.getStage().isKnockout()) {
+            throw new IllegalArgumentException("Knockout games cannot be drawn");
+        }
 
         game.setPlayer1Score(player1Score);
         game.setPlayer2Score(player2Score);
         game.setStatus(Game.GameStatus.COMPLETED);
-        game.setPlayedAt(java.time.LocalDateTime.now());
+        if (game.getPlayedAt() == null) {
+            // A correction keeps the game's place in the playing order the ratings are replayed in
+            game.setPlayedAt(LocalDateTime.now());
+        }
 
         var savedGame = gameRepository.save(game);
+
+        var tournament = savedGame.getTournament();
+        eventPublisher.publishEvent(new GameResultRecordedEvent(tournament.getId(), savedGame.getId(),
+            savedGame.getPlayer1().getId(), savedGame.getPlayer2().getId(), player1Score, player2Score));
+        eventPublisher.publishEvent(new GamesChangedEvent(tournament.getId()));
+        var format = TournamentFormat.of(tournament.getFormat());
+        if (format.isProgressive()) {
+            scheduleDeterminedGames(tournament, format);
+        }
+        var unplayedStatuses = List.of(Game.GameStatus.SCHEDULED, Game.GameStatus.IN_PROGRESS);
+        if (!gameRepository.existsByTournamentAndStatusIn(tournament, unplayedStatuses)
+                && tournamentRepository.updateStatus(tournament.getId(), List.of(TournamentStatus.STARTED),
+                        TournamentStatus.COMPLETED) > 0) {
+            tournament.setStatus(TournamentStatus.COMPLETED);
+            eventPublisher.publishEvent(new TournamentChangedEvent(tournament.getId()));
+        }
         return gameMapper.convertToDto(savedGame);
     }
+
+    /**
+     * Create the games the results so far determine, and bring unplayed games in line with corrected results
+     * The tournament row is locked first, so results completing the same round cannot both create its next game
+     */
+    private void scheduleDeterminedGames(Tournament tournament, TournamentFormat format) {
+        tournamentRepository.lockById(tournament.getId());
+        var entrants = registrationService.findByTournament(tournament).stream()
+                .sorted(Comparator.comparing(TournamentRegistration::getSeed,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(TournamentRegistration::getPlayer)
+                .toList();
+        var seedByPlayerId = new HashMap<Long, Integer>();
+        IntStream.range(0, entrants.size()).forEach(seed -> seedByPlayerId.put(entrants.get(seed).getId(), seed));
+
+        var games = gameRepository.findScheduleByTournament(tournament);
+        var scheduled = games.stream()
+                .map(game -> new Fixture(game.getStage(), game.getRoundNumber(), game.getBracketPosition(),
+                        seedByPlayerId.get(game.getPlayer1().getId()), seedByPlayerId.get(game.getPlayer2().getId())))
+                .toList();
+        var results = games.stream()
+                .filter(game -> game.getStatus() == Game.GameStatus.COMPLETED)
+                .map(game -> new Result(game.getStage(), game.getRoundNumber(), game.getBracketPosition(),
+                        seedByPlayerId.get(game.getPlayer1().getId()), seedByPlayerId.get(game.getPlayer2().getId()),
+                        game.getPlayer1Score(), game.getPlayer2Score()))
+                .toList();
+        var gamesByKey = new HashMap<Fixture.Key, Game>();
+        games.forEach(game -> gamesByKey.put(
+                new Fixture.Key(game.getStage(), game.getRoundNumber(), game.getBracketPosition()), game));
+
+        var nextOrder = games.stream().mapToInt(Game::getGameOrder).max().orElse(0) + 1;
+        var kept = new ArrayList<Game>();
+        var created = new ArrayList<Game>();
+        for (var fixture : format.fixtures(entrants.size(), scheduled, results)) {
+            var player1 = entrants.get(fixture.player1());
+            var player2 = entrants.get(fixture.player2());
+            var game = gamesByKey.remove(fixture.key());
+            if (game == null) {
+                created.add(new Game(tournament, player1, player2, nextOrder++,
+                        fixture.stage(), fixture.round(), fixture.position()));
+                continue;
+            }
+            kept.add(game);
+            if (!game.getPlayer1().getId().equals(player1.getId())
+                    || !game.getPlayer2().getId().equals(player2.getId())) {
+                requireUnplayed(game);
+                game.setPlayer1(player1);
+                game.setPlayer2(player2);
+            }
+        }
+
+        // Games no longer needed, such as a grand final replay after a corrected result
+        gamesByKey.values().forEach(this::requireUnplayed);
+        gameRepository.deleteAll(gamesByKey.values());
+        allocateCreatedGames(tournament, kept, created, seedByPlayerId);
+        gameRepository.saveAll(created);
+        log.debug("Tournament {}: created {} games, removed {}", tournament.getId(), created.size(), gamesByKey.size());
+    }
+
+    /**
+     * Allocate newly created games to tables and slots after the last slot already allocated, with each player's
+     * rest counted from their last allocated game, and number them in playing order
+     * Tournaments started before their allocation settings were recorded leave later games unallocated
+     */
+    private void allocateCreatedGames(Tournament tournament, List<Game> kept, List<Game> created,
+            Map<Long, Integer> seedByPlayerId) {
+        if (created.isEmpty() || tournament.getTableCount() == null) {
+            return;
+        }
+        var restSlots = tournament.getRestSlots();
+        var lastSlot = kept.stream()
+                .map(Game::getStartSlot)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0);
+        var availableFrom = new int[seedByPlayerId.size()];
+        Arrays.fill(availableFrom, lastSlot + 1);
+        for (var game : kept) {
+            if (game.getStartSlot() != null) {
+                var rested = game.getStartSlot() + 1 + restSlots;
+                var seed1 = seedByPlayerId.get(game.getPlayer1().getId());
+                var seed2 = seedByPlayerId.get(game.getPlayer2().getId());
+                availableFrom[seed1] = Math.max(availableFrom[seed1], rested);
+                availableFrom[seed2] = Math.max(availableFrom[seed2], rested);
+            }
+        }
+
+        var player1 = created.stream().mapToInt(game -> seedByPlayerId.get(game.getPlayer1().getId())).toArray();
+        var player2 = created.stream().mapToInt(game -> seedByPlayerId.get(game.getPlayer2().getId())).toArray();
+        var allocation = TableScheduler.allocate(player1, player2, availableFrom, tournament.getTableCount(),
+                restSlots);
+
+        var firstOrder = created.getFirst().getGameOrder();
+        var startsAt = LocalDateTime.of(tournament.getDate(), tournament.getTime());
+        var slotLength = Duration.ofSeconds(tournament.getSlotSeconds());
+        var playingOrder = allocation.playingOrder();
+        for (var position = 0; position < playingOrder.length; position++) {
+            var index = playingOrder[position];
+            var game = created.get(index);
+            var slot = allocation.slots()[index];
+            game.setGameOrder(firstOrder + position);
+            game.setTableNumber(allocation.tables()[index]);
+            game.setStartSlot(slot);
+            game.setScheduledStart(startsAt.plus(slotLength.multipliedBy(slot - 1L)));
+        }
+    }
+
+    private void requireUnplayed(Game game) {
+        if (game.getStatus() != Game.GameStatus.SCHEDULED) {
+            throw new IllegalStateException("Game #" + game.getGameOrder()
+                    + " has already been played with the previous result, so this result cannot be changed");
+        }
+    }
 }
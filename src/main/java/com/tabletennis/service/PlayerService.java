@@ -1,11 +1,15 @@
 package com.tabletennis.service;
 
+import com.tabletennis.config.CacheConfig;
 import com.tabletennis.entity.Player;
 import com.tabletennis.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -17,6 +21,7 @@ import java.util.Optional;
 public class PlayerService {
 
     private final PlayerRepository playerRepository;
+    private final CacheManager cacheManager;
 
     /**
      * Find player by email
@@ -34,12 +39,41 @@ public class PlayerService {
 
     /**
      * Find or create a player by email, firstName, and surname
-     * If player exists with same email, return existing player
+     * If a player exists with the same email, ignoring case, return existing player
      * Otherwise create new player
+     * Known emails resolve through the player ID cache to a reference, so they need no player query
      */
     public Player findOrCreatePlayer(String firstName, String surname, String email) {
-        return findByEmail(email)
-                .orElseGet(() -> save(new Player(firstName, surname, email)));
+        var normalizedEmail = normalizeEmail(email);
+        return findPlayerId(normalizedEmail)
+                .map(playerRepository::getReferenceById)
+                .orElseGet(() -> {
+                    var player = save(new Player(firstName, surname, email));
+                    playerIdCache().put(normalizedEmail, player.getId());
+                    return player;
+                });
     }
 
+    /**
+     * Find the ID of the player with the given normalised email, through the cache
+     * Misses are not cached, so a player created elsewhere is found on the next lookup
+     */
+    private Optional<Long> findPlayerId(String normalizedEmail) {
+        var cache = playerIdCache();
+        var cachedId = cache.get(normalizedEmail, Long.class);
+        if (cachedId != null) {
+            return Optional.of(cachedId);
+        }
+        var playerId = playerRepository.findIdByNormalizedEmail(normalizedEmail);
+        playerId.ifPresent(id -> cache.put(normalizedEmail, id));
+        return playerId;
+    }
+
+    private Cache playerIdCache() {
+        return CacheConfig.requireCache(cacheManager, CacheConfig.PLAYER_IDS);
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
 }
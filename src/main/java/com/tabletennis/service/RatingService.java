@@ -0,0 +1,189 @@
+package com.tabletennis.service;
+
+import com.tabletennis.dto.LeaderboardEntryDto;
+import com.tabletennis.dto.LeaderboardPageDto;
+import com.tabletennis.entity.Game;
+import com.tabletennis.entity.Player;
+import com.tabletennis.entity.PlayerRatingHistory;
+import com.tabletennis.event.GameResultRecordedEvent;
+import com.tabletennis.event.RatingsChangedEvent;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRatingHistoryRepository;
+import com.tabletennis.repository.PlayerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Service for player Elo ratings across tournaments
+ * Each completed game updates both players' ratings and records the change in the rating history;
+ * {@link #recomputeAll()} rebuilds every rating and the whole history by replaying the completed games
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RatingService {
+
+    private static final int HISTORY_BATCH_SIZE = 1_000;
+    private static final String INSERT_HISTORY = "insert into player_rating_history "
+            + "(player_id, game_id, rating_before, rating_after, recorded_at) values (?, ?, ?, ?, ?)";
+
+    private final PlayerRepository playerRepository;
+    private final GameRepository gameRepository;
+    private final PlayerRatingHistoryRepository ratingHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Update both players' ratings for a recorded result
+     * Runs in the transaction recording the result, so the rating change commits or rolls back with it.
+     * A corrected result first takes back the change the game made before; later games are not replayed,
+     * so ratings only match a full recompute again after {@link #recomputeAll()}.
+     */
+    @EventListener
+    public void onGameResultRecorded(GameResultRecordedEvent event) {
+        var players = playerRepository.findAllByIdForUpdate(List.of(event.player1Id(), event.player2Id())).stream()
+            .collect(Collectors.toMap(Player::getId, Function.identity()));
+        var player1 = players.get(event.player1Id());
+        var player2 = players.get(event.player2Id());
+
+        var previous = ratingHistoryRepository.findByGameId(event.gameId());
+        previous.forEach(change -> {
+            var player = players.get(change.getPlayer().getId());
+            player.setRating(player.getRating() - (change.getRatingAfter() - change.getRatingBefore()));
+            player.setRatedGames(player.getRatedGames() - 1);
+        });
+        ratingHistoryRepository.deleteAll(previous);
+
+        var rating1 = player1.getRating();
+        var rating2 = player2.getRating();
+        var score = EloRating.score(event.player1Score(), event.player2Score());
+        player1.setRating(rating1 + EloRating.change(rating1, player1.getRatedGames(), rating2, score));
+        player2.setRating(rating2 + EloRating.change(rating2, player2.getRatedGames(), rating1, 1 - score));
+        player1.setRatedGames(player1.getRatedGames() + 1);
+        player2.setRatedGames(player2.getRatedGames() + 1);
+
+        var game = gameRepository.getReferenceById(event.gameId());
+        var recordedAt = LocalDateTime.now();
+        ratingHistoryRepository.saveAll(List.of(
+            new PlayerRatingHistory(player1, game, rating1, player1.getRating(), recordedAt),
+            new PlayerRatingHistory(player2, game, rating2, player2.getRating(), recordedAt)));
+        eventPublisher.publishEvent(new RatingsChangedEvent());
+        log.debug("Game {} moved ratings to {} and {}", event.gameId(), player1.getRating(), player2.getRating());
+    }
+
+    /**
+     * Recompute every rating and the rating history from scratch, replaying completed games in playing order
+     * Results are read as a stream into primitive arrays and replayed by {@link EloRating#replay}; the history
+     * is rewritten with batched JDBC inserts, as it holds two rows per completed game
+     * Every player is locked first, so results being rated commit before the replay reads the games, and
+     * results recorded during it are rated once it commits
+     * Returns the number of games replayed
+     */
+    @Transactional
+    public int recomputeAll() {
+        var players = playerRepository.findAllForUpdate();
+        // The count only sizes the arrays; they grow if more games are streamed
+        var capacity = Math.max(1, Math.toIntExact(gameRepository.countByStatus(Game.GameStatus.COMPLETED)));
+        var gameIds = new long[capacity];
+        var player1Ids = new int[capacity];
+        var player2Ids = new int[capacity];
+        var player1Scores = new double[capacity];
+        var playedAt = new Timestamp[capacity];
+
+        var loaded = 0;
+        try (var results = gameRepository.streamResultsInPlayingOrder(Game.GameStatus.COMPLETED)) {
+            for (var iterator = results.iterator(); iterator.hasNext(); loaded++) {
+                if (loaded == gameIds.length) {
+                    capacity = 2 * capacity;
+                    gameIds = Arrays.copyOf(gameIds, capacity);
+                    player1Ids = Arrays.copyOf(player1Ids, capacity);
+                    player2Ids = Arrays.copyOf(player2Ids, capacity);
+                    player1Scores = Arrays.copyOf(player1Scores, capacity);
+                    playedAt = Arrays.copyOf(playedAt, capacity);
+                }
+                var result = iterator.next();
+                gameIds[loaded] = result.getGameId();
+                player1Ids[loaded] = Math.toIntExact(result.getPlayer1Id());
+                player2Ids[loaded] = Math.toIntExact(result.getPlayer2Id());
+                player1Scores[loaded] = EloRating.score(result.getPlayer1Score(), result.getPlayer2Score());
+                playedAt[loaded] = result.getPlayedAt() == null ? null : Timestamp.valueOf(result.getPlayedAt());
+            }
+        }
+        if (loaded < player1Ids.length) {
+            player1Ids = Arrays.copyOf(player1Ids, loaded);
+            player2Ids = Arrays.copyOf(player2Ids, loaded);
+            player1Scores = Arrays.copyOf(player1Scores, loaded);
+        }
+
+        var playerSlots = IntStream.concat(
+                players.stream().mapToInt(player -> Math.toIntExact(player.getId())),
+                IntStream.concat(Arrays.stream(player1Ids), Arrays.stream(player2Ids)))
+            .max()
+            .orElse(0) + 1;
+        var start = System.nanoTime();
+        var replay = EloRating.replay(playerSlots, player1Ids, player2Ids, player1Scores);
+        log.info("Replayed {} games in {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+
+        players.forEach(player -> {
+            var index = Math.toIntExact(player.getId());
+            player.setRating(replay.ratings()[index]);
+            player.setRatedGames(replay.ratedGames()[index]);
+        });
+
+        ratingHistoryRepository.deleteAllInBatch();
+        var rows = new ArrayList<Object[]>(HISTORY_BATCH_SIZE);
+        for (var game = 0; game < loaded; game++) {
+            var recordedAt = playedAt[game] != null ? playedAt[game] : Timestamp.valueOf(LocalDateTime.now());
+            rows.add(new Object[] {player1Ids[game], gameIds[game],
+                replay.player1Before()[game], replay.player1After()[game], recordedAt});
+            rows.add(new Object[] {player2Ids[game], gameIds[game],
+                replay.player2Before()[game], replay.player2After()[game], recordedAt});
+            if (rows.size() >= HISTORY_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_HISTORY, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_HISTORY, rows);
+        }
+        eventPublisher.publishEvent(new RatingsChangedEvent());
+        return loaded;
+    }
+
+    /**
+     * Get a page of the leaderboard, highest rated first
+     * Pass the previous page's next rating and ID to get the page after it, or nulls for the first page
+     */
+    public LeaderboardPageDto getLeaderboard(Double afterRating, Long afterId, int size) {
+        var limit = Limit.of(size + 1);
+        var players = afterRating == null || afterId == null
+            ? playerRepository.findLeaderboard(limit)
+            : playerRepository.findLeaderboardAfter(afterRating, afterId, limit);
+
+        var entries = players.stream()
+            .limit(size)
+            .map(player -> new LeaderboardEntryDto(
+                player.getId(), player.getFullName(), player.getRating(), player.getRatedGames()))
+            .toList();
+        if (players.size() <= size) {
+            return new LeaderboardPageDto(entries, null, null);
+        }
+        var last = entries.getLast();
+        return new LeaderboardPageDto(entries, last.getRating(), last.getPlayerId());
+    }
+}
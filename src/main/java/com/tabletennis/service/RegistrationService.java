@@ -1,16 +1,26 @@
 package com.tabletennis.service;
 
 import com.tabletennis.dto.RegistrationDto;
+import com.tabletennis.dto.TournamentRegistrationCount;
 import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.Tournament.TournamentStatus;
 import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.event.RegistrationChangedEvent;
+import com.tabletennis.event.TournamentChangedEvent;
 import com.tabletennis.mapping.RegistrationMapper;
 import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,15 +32,15 @@ import java.util.stream.Collectors;
 public class RegistrationService {
 
     private final TournamentRegistrationRepository registrationRepository;
+    private final TournamentRepository tournamentRepository;
     private final RegistrationMapper registrationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Find all tournament registrations and return as DTOs
      */
     public List<RegistrationDto> findAllDto() {
-        return registrationRepository.findAll().stream()
-            .map(registrationMapper::convertToDto)
-            .toList();
+        return registrationMapper.convertToDtos(registrationRepository.findAll());
     }
 
     /**
@@ -42,19 +52,40 @@ public class RegistrationService {
 
     /**
      * Save tournament registration
+     * A player can only be registered once for each tournament, and only while it is open.
+     * The tournament registration count and status are updated in the same transaction.
      */
+    @Transactional
     public void save(TournamentRegistration registration) {
+        var tournament = registration.getTournament();
+        if (registrationRepository.existsByPlayerAndTournament(registration.getPlayer(), tournament)) {
+            throw new IllegalArgumentException("Player is already registered for this tournament");
+        }
+        if (tournamentRepository.incrementRegistrationCount(
+                tournament.getId(), TournamentStatus.OPEN, TournamentStatus.FULL) == 0) {
+            throw new IllegalArgumentException("Tournament is not open for registration");
+        }
         registrationRepository.save(registration);
+
+        tournament.setRegistrationCount(tournament.getRegistrationCount() + 1);
+        if (tournament.isFull()) {
+            tournament.setStatus(TournamentStatus.FULL);
+        }
+        eventPublisher.publishEvent(new RegistrationChangedEvent(tournament.getId()));
+        eventPublisher.publishEvent(new TournamentChangedEvent(tournament.getId()));
     }
 
     /**
-     * Get tournament registration counts grouped by tournament name
+     * Get registration counts keyed by tournament ID, ordered by tournament name
+     * Counted with a single grouped query so tournaments sharing a name are kept apart
      */
-    public Map<String, Long> getTournamentCounts() {
-        return findAll().stream()
-            .collect(Collectors.groupingBy(
-                r -> r.getTournament().getName(),
-                Collectors.counting()
+    public Map<Long, TournamentRegistrationCount> getRegistrationCountsByTournamentId() {
+        return registrationRepository.countRegistrationsByTournament().stream()
+            .collect(Collectors.toMap(
+                TournamentRegistrationCount::getTournamentId,
+                Function.identity(),
+                (first, second) -> first,
+                LinkedHashMap::new
             ));
     }
 
@@ -65,12 +96,22 @@ public class RegistrationService {
         return registrationRepository.findByTournament(tournament);
     }
 
+    /**
+     * Find registrations for the given tournaments in a single query and return as DTOs grouped by tournament ID
+     */
+    public Map<Long, List<RegistrationDto>> findByTournamentIdsDto(Collection<Long> tournamentIds) {
+        if (tournamentIds.isEmpty()) {
+            return Map.of();
+        }
+        var registrations = registrationRepository.findWithPlayerByTournamentIdIn(tournamentIds);
+        return registrationMapper.convertToDtos(registrations).stream()
+            .collect(Collectors.groupingBy(r -> r.getTournament().getId()));
+    }
+
     /**
      * Find registrations by tournament ID and return as DTOs
      */
     public List<RegistrationDto> findByTournamentIdDto(Long tournamentId) {
-        return registrationRepository.findByTournamentId(tournamentId).stream()
-            .map(registrationMapper::convertToDto)
-            .toList();
+        return registrationMapper.convertToDtos(registrationRepository.findByTournamentId(tournamentId));
     }
 }
@@ -0,0 +1,61 @@
+package com.tabletennis.service;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Round-robin schedule by the circle method, as used for Berger tables
+ * The last player stays in place while the others rotate one position each round, giving n - 1 rounds
+ * in which every player plays once, so all games of a round can be played at the same time.
+ * With an odd number of players a bye is added, and whoever is paired with it sits the round out.
+ */
+public final class RoundRobinScheduler {
+
+    private RoundRobinScheduler() {
+    }
+
+    /**
+     * Pairing of two players, by their index in the entry list, in a round numbered from 1
+     */
+    public record Pairing(int round, int player1, int player2) {
+    }
+
+    /**
+     * Number of rounds needed for the given number of players
+     */
+    public static int roundCount(int playerCount) {
+        return playerCount < 2 ? 0 : slotCount(playerCount) - 1;
+    }
+
+    /**
+     * Stream every pairing for the given number of players, round by round
+     * Each pairing is calculated from its position in the schedule, so nothing is held in memory
+     */
+    public static Stream<Pairing> schedule(int playerCount) {
+        if (playerCount < 2) {
+            return Stream.empty();
+        }
+        var slots = slotCount(playerCount);
+        var gamesPerRound = slots / 2;
+        return IntStream.range(0, (slots - 1) * gamesPerRound)
+            .mapToObj(index -> pairing(index / gamesPerRound, index % gamesPerRound, slots))
+            .filter(pairing -> pairing.player1() < playerCount && pairing.player2() < playerCount);
+    }
+
+    private static Pairing pairing(int round, int match, int slots) {
+        var rotating = slots - 1;
+        if (match == 0) {
+            // Alternate the fixed player's side from round to round
+            return round % 2 == 0
+                ? new Pairing(round + 1, round, rotating)
+                : new Pairing(round + 1, rotating, round);
+        }
+        var player1 = (round + match) % rotating;
+        var player2 = (round - match + rotating) % rotating;
+        return new Pairing(round + 1, player1, player2);
+    }
+
+    private static int slotCount(int playerCount) {
+        return playerCount % 2 == 0 ? playerCount : playerCount + 1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.tabletennis.service;
+
+import com.tabletennis.config.CacheConfig;
+import com.tabletennis.dto.CrosstableRowDto;
+import com.tabletennis.dto.StandingDto;
+import com.tabletennis.entity.Game;
+import com.tabletennis.entity.Player;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.event.GameResultRecordedEvent;
+import com.tabletennis.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Service for tournament standings and the head-to-head crosstable
+ * A {@link StandingsTable} per tournament is cached and kept current by applying each recorded result to it;
+ * the table is only rebuilt from the recorded games when it is not in the cache
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StandingsService {
+
+    private final GameRepository gameRepository;
+    private final RegistrationService registrationService;
+    private final CacheManager cacheManager;
+
+    /**
+     * Get the current standings for a tournament, best placed first
+     */
+    public List<StandingDto> getStandings(Tournament tournament) {
+        return getTable(tournament).getStandings();
+    }
+
+    /**
+     * Get the head-to-head crosstable for a tournament, players in registration order
+     */
+    public List<CrosstableRowDto> getCrosstable(Tournament tournament) {
+        return getTable(tournament).getCrosstable();
+    }
+
+    /**
+     * Apply a recorded result to the cached table, after the publishing transaction commits
+     * Runs before the games data version is bumped, so a page tagged with the new version shows the new result
+     * With no table cached the key is still evicted, discarding a table being built from before the commit
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameResultRecorded(GameResultRecordedEvent event) {
+        var cache = standingsCache();
+        var table = cache.get(event.tournamentId(), StandingsTable.class);
+        if (table == null) {
+            cache.evict(event.tournamentId());
+        } else if (!table.record(event.gameId(), event.player1Id(), event.player2Id(),
+                event.player1Score(), event.player2Score())) {
+            log.warn("Game {} has a player not in the standings for tournament {}, rebuilding",
+                event.gameId(), event.tournamentId());
+            cache.evict(event.tournamentId());
+        }
+    }
+
+    private StandingsTable getTable(Tournament tournament) {
+        return standingsCache().get(tournament.getId(), () -> buildTable(tournament));
+    }
+
+    private StandingsTable buildTable(Tournament tournament) {
+        log.debug("Building standings for tournament {}", tournament.getId());
+        var players = registrationService.findByTournament(tournament).stream()
+            .map(TournamentRegistration::getPlayer)
+            .toList();
+        var table = new StandingsTable(
+            players.stream().map(Player::getId).toList(),
+            players.stream().map(Player::getFullName).toList());
+        gameRepository.findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED)
+            .forEach(result -> table.record(result.getGameId(), result.getPlayer1Id(), result.getPlayer2Id(),
+                result.getPlayer1Score(), result.getPlayer2Score()));
+        return table;
+    }
+
+    private Cache standingsCache() {
+        return CacheConfig.requireCache(cacheManager, CacheConfig.STANDINGS);
+    }
+}
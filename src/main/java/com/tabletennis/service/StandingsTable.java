@@ -0,0 +1,161 @@
+package com.tabletennis.service;
+
+import com.tabletennis.dto.CrosstableRowDto;
+import com.tabletennis.dto.HeadToHeadDto;
+import com.tabletennis.dto.StandingDto;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Round-robin standings for one tournament, held in primitive arrays indexed by player
+ * Each result is applied in constant time; recording a game again replaces its previous result,
+ * so corrections and repeated deliveries of the same result leave the totals right
+ * Players are ranked on games won, then points difference, then points scored, then registration order
+ * Head-to-head totals for every pair of players are kept alongside, for the crosstable and for tiebreaks
+ */
+public class StandingsTable {
+
+    private final Long[] playerIds;
+    private final String[] playerNames;
+    private final Map<Long, Integer> indexByPlayerId;
+
+    private final int[] played;
+    private final int[] won;
+    private final int[] lost;
+    private final int[] pointsFor;
+    private final int[] pointsAgainst;
+
+    // Head-to-head totals of the row player against the column player, at row * size + column
+    private final int[] headToHeadPlayed;
+    private final int[] headToHeadWon;
+    private final int[] headToHeadPointsFor;
+
+    // Per game: player indexes and scores as last applied
+    private final Map<Long, int[]> resultsByGameId = new HashMap<>();
+
+    // Player indexes in ranking order, recalculated on the first read after a change
+    private int[] ranking;
+
+    public StandingsTable(List<Long> playerIds, List<String> playerNames) {
+        if (playerIds.size() != playerNames.size()) {
+            throw new IllegalArgumentException("Each player needs a name");
+        }
+        var size = playerIds.size();
+        this.playerIds = playerIds.toArray(Long[]::new);
+        this.playerNames = playerNames.toArray(String[]::new);
+        this.indexByPlayerId = HashMap.newHashMap(size);
+        IntStream.range(0, size).forEach(index -> indexByPlayerId.put(this.playerIds[index], index));
+        this.played = new int[size];
+        this.won = new int[size];
+        this.lost = new int[size];
+        this.pointsFor = new int[size];
+        this.pointsAgainst = new int[size];
+        this.headToHeadPlayed = new int[size * size];
+        this.headToHeadWon = new int[size * size];
+        this.headToHeadPointsFor = new int[size * size];
+    }
+
+    /**
+     * Record a game result, replacing any result previously recorded for the same game
+     * Returns false, leaving the table unchanged, if either player is not in the table
+     */
+    public synchronized boolean record(Long gameId, Long player1Id, Long player2Id,
+            int player1Score, int player2Score) {
+        var player1 = indexByPlayerId.get(player1Id);
+        var player2 = indexByPlayerId.get(player2Id);
+        if (player1 == null || player2 == null) {
+            return false;
+        }
+        var result = new int[] {player1, player2, player1Score, player2Score};
+        var previous = resultsByGameId.put(gameId, result);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(result, 1);
+        ranking = null;
+        return true;
+    }
+
+    /**
+     * Current standings, best placed first
+     */
+    public synchronized List<StandingDto> getStandings() {
+        if (ranking == null) {
+            ranking = rank();
+        }
+        return IntStream.range(0, ranking.length)
+            .mapToObj(position -> toDto(position + 1, ranking[position]))
+            .toList();
+    }
+
+    /**
+     * Head-to-head results between every pair of players, a row per player in registration order
+     * Each row has a cell per opponent in the same order, with no cell against the player themself
+     */
+    public synchronized List<CrosstableRowDto> getCrosstable() {
+        return IntStream.range(0, playerIds.length)
+            .mapToObj(row -> new CrosstableRowDto(playerIds[row], playerNames[row],
+                IntStream.range(0, playerIds.length)
+                    .mapToObj(column -> row == column ? null : headToHead(row, column))
+                    .toList()))
+            .toList();
+    }
+
+    private void apply(int[] result, int sign) {
+        int player1 = result[0];
+        int player2 = result[1];
+        int player1Score = result[2];
+        int player2Score = result[3];
+
+        played[player1] += sign;
+        played[player2] += sign;
+        var cell1 = player1 * playerIds.length + player2;
+        var cell2 = player2 * playerIds.length + player1;
+        headToHeadPlayed[cell1] += sign;
+        headToHeadPlayed[cell2] += sign;
+        headToHeadPointsFor[cell1] += sign * player1Score;
+        headToHeadPointsFor[cell2] += sign * player2Score;
+        pointsFor[player1] += sign * player1Score;
+        pointsAgainst[player1] += sign * player2Score;
+        pointsFor[player2] += sign * player2Score;
+        pointsAgainst[player2] += sign * player1Score;
+        if (player1Score > player2Score) {
+            won[player1] += sign;
+            lost[player2] += sign;
+            headToHeadWon[cell1] += sign;
+        } else if (player2Score > player1Score) {
+            won[player2] += sign;
+            lost[player1] += sign;
+            headToHeadWon[cell2] += sign;
+        }
+    }
+
+    private int[] rank() {
+        Comparator<Integer> byRank = Comparator.<Integer>comparingInt(index -> won[index])
+            .thenComparingInt(index -> pointsFor[index] - pointsAgainst[index])
+            .thenComparingInt(index -> pointsFor[index])
+            .reversed()
+            .thenComparingInt(index -> index);
+        return IntStream.range(0, playerIds.length)
+            .boxed()
+            .sorted(byRank)
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    private HeadToHeadDto headToHead(int row, int column) {
+        var cell = row * playerIds.length + column;
+        var opposite = column * playerIds.length + row;
+        return new HeadToHeadDto(headToHeadPlayed[cell], headToHeadWon[cell], headToHeadWon[opposite],
+            headToHeadPointsFor[cell], headToHeadPointsFor[opposite]);
+    }
+
+    private StandingDto toDto(int position, int index) {
+        return new StandingDto(position, playerIds[index], playerNames[index], played[index], won[index],
+            lost[index], pointsFor[index], pointsAgainst[index], pointsFor[index] - pointsAgainst[index]);
+    }
+}
@@ -0,0 +1,193 @@
+package com.tabletennis.service;
+
+import com.tabletennis.service.RoundRobinScheduler.Pairing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pairs one round of a Swiss-system event from the standings so far
+ * Players are ranked by points, then by seed, and paired within their score group, the top half against the
+ * bottom half; whoever is left over in a group drops down to the next. Rematches are avoided by a depth-first
+ * search that gives up after {@link #MAX_SEARCH_STEPS} tries, falling back to greedy pairing that only allows
+ * a rematch when no one else is left, so a round is always paired in bounded time.
+ * With an odd number of players the lowest ranked of those with the fewest byes sits the round out.
+ */
+public final class SwissPairing {
+
+    static final int MAX_SEARCH_STEPS = 20_000;
+
+    private SwissPairing() {
+    }
+
+    /**
+     * Pairings of a round, best ranked first, and the player given the bye, or -1 if there is none
+     */
+    public record Round(List<Pairing> pairings, int bye) {
+    }
+
+    /**
+     * Number of rounds for the given number of players, enough to leave a single player with a perfect score
+     */
+    public static int roundCount(int playerCount) {
+        return playerCount < 2 ? 0 : Math.min(32 - Integer.numberOfLeadingZeros(playerCount - 1), playerCount - 1);
+    }
+
+    /**
+     * Pair a round, numbered from 1, with players given by their index in seed order
+     *
+     * @param points each player's points so far
+     * @param played whether two players have already met, by both players' indexes
+     * @param byes the number of byes each player has had
+     */
+    public static Round pair(int round, int[] points, boolean[][] played, int[] byes) {
+        var ranking = ranking(points);
+        var bye = -1;
+        if (ranking.length % 2 == 1) {
+            var byeAt = ranking.length - 1;
+            for (var i = ranking.length - 2; i >= 0; i--) {
+                if (byes[ranking[i]] < byes[ranking[byeAt]]) {
+                    byeAt = i;
+                }
+            }
+            bye = ranking[byeAt];
+            var remaining = new int[ranking.length - 1];
+            System.arraycopy(ranking, 0, remaining, 0, byeAt);
+            System.arraycopy(ranking, byeAt + 1, remaining, byeAt, remaining.length - byeAt);
+            ranking = remaining;
+        }
+
+        var matcher = new Matcher(ranking, points, played);
+        if (!matcher.search(0)) {
+            matcher.pairGreedily();
+        }
+        return new Round(matcher.pairings(round), bye);
+    }
+
+    /**
+     * Player indexes by points, highest first, then by seed
+     */
+    private static int[] ranking(int[] points) {
+        var keys = new long[points.length];
+        for (var player = 0; player < points.length; player++) {
+            keys[player] = (long) -points[player] << 32 | player;
+        }
+        Arrays.sort(keys);
+        return Arrays.stream(keys).mapToInt(key -> (int) key).toArray();
+    }
+
+    /**
+     * Pairs players by their position in the ranking
+     */
+    private static final class Matcher {
+
+        private final int[] players;
+        private final int[] points;
+        private final boolean[][] played;
+        private final int[] partners;
+        private int steps;
+
+        Matcher(int[] players, int[] points, boolean[][] played) {
+            this.players = players;
+            this.points = points;
+            this.played = played;
+            this.partners = new int[players.length];
+            Arrays.fill(partners, -1);
+        }
+
+        /**
+         * Pair everyone from the given position without a rematch, returning false if none is found in time
+         */
+        boolean search(int from) {
+            var first = from;
+            while (first < players.length && partners[first] >= 0) {
+                first++;
+            }
+            if (first == players.length) {
+                return true;
+            }
+            for (var candidate : candidates(first)) {
+                if (played[players[first]][players[candidate]]) {
+                    continue;
+                }
+                if (++steps > MAX_SEARCH_STEPS) {
+                    return false;
+                }
+                partners[first] = candidate;
+                partners[candidate] = first;
+                if (search(first + 1)) {
+                    return true;
+                }
+                partners[first] = -1;
+                partners[candidate] = -1;
+                if (steps > MAX_SEARCH_STEPS) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Pair everyone in ranking order with their first preferred opponent not met before, if any
+         */
+        void pairGreedily() {
+            Arrays.fill(partners, -1);
+            for (var first = 0; first < players.length; first++) {
+                if (partners[first] >= 0) {
+                    continue;
+                }
+                var candidates = candidates(first);
+                var chosen = candidates[0];
+                for (var candidate : candidates) {
+                    if (!played[players[first]][players[candidate]]) {
+                        chosen = candidate;
+                        break;
+                    }
+                }
+                partners[first] = chosen;
+                partners[chosen] = first;
+            }
+        }
+
+        /**
+         * Unpaired positions below the given one, in order of preference: its score group starting half the group
+         * further down, then the rest of the group back up, then lower score groups in ranking order
+         */
+        private int[] candidates(int first) {
+            var unpaired = new int[players.length - first - 1];
+            var count = 0;
+            var sameScore = 0;
+            for (var position = first + 1; position < players.length; position++) {
+                if (partners[position] < 0) {
+                    unpaired[count++] = position;
+                    if (points[players[position]] == points[players[first]]) {
+                        sameScore++;
+                    }
+                }
+            }
+
+            var candidates = new int[count];
+            var next = 0;
+            var half = Math.max(0, (sameScore + 1) / 2 - 1);
+            for (var i = half; i < sameScore; i++) {
+                candidates[next++] = unpaired[i];
+            }
+            for (var i = half - 1; i >= 0; i--) {
+                candidates[next++] = unpaired[i];
+            }
+            System.arraycopy(unpaired, sameScore, candidates, next, count - sameScore);
+            return candidates;
+        }
+
+        List<Pairing> pairings(int round) {
+            var pairings = new ArrayList<Pairing>(players.length / 2);
+            for (var position = 0; position < players.length; position++) {
+                if (partners[position] > position) {
+                    pairings.add(new Pairing(round, players[position], players[partners[position]]));
+                }
+            }
+            return pairings;
+        }
+    }
+}
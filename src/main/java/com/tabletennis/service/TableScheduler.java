@@ -0,0 +1,103 @@
+package com.tabletennis.service;
+
+import com.tabletennis.service.RoundRobinScheduler.Pairing;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allocates games to tables and time slots by greedy list scheduling
+ * Slots are filled in turn: each takes the earliest pending games, in schedule order, whose players are both
+ * free and rested, until every table is in use. A player is never booked twice in a slot, and plays again only
+ * after the given number of rest slots. Taking games in round order keeps every player's remaining games
+ * balanced, so the event finishes close to the lower bound set by the table count and the busiest player.
+ */
+public final class TableScheduler {
+
+    private TableScheduler() {
+    }
+
+    /**
+     * Table and slot, both numbered from 1, of each game, with the games in playing order
+     *
+     * @param tables the table of each game, by its position in the schedule
+     * @param slots the slot of each game, by its position in the schedule
+     * @param playingOrder positions in the schedule, ordered by slot and then table
+     * @param slotCount the last slot allocated, which is the number of slots the event takes from slot 1
+     */
+    public record Allocation(int[] tables, int[] slots, int[] playingOrder, int slotCount) {
+    }
+
+    /**
+     * Allocate the given pairings, which must only refer to players below the player count
+     */
+    public static Allocation allocate(List<Pairing> pairings, int playerCount, int tableCount, int restSlots) {
+        var gameCount = pairings.size();
+        var player1 = new int[gameCount];
+        var player2 = new int[gameCount];
+        for (var game = 0; game < gameCount; game++) {
+            player1[game] = pairings.get(game).player1();
+            player2[game] = pairings.get(game).player2();
+        }
+        var availableFrom = new int[playerCount];
+        Arrays.fill(availableFrom, 1);
+        return allocate(player1, player2, availableFrom, tableCount, restSlots);
+    }
+
+    /**
+     * Allocate games, given by their players, to follow games already allocated
+     * No game is allocated before the earliest slot any of its players is available from
+     *
+     * @param availableFrom the first slot each player may play in, updated as games are allocated
+     */
+    public static Allocation allocate(int[] player1, int[] player2, int[] availableFrom, int tableCount,
+            int restSlots) {
+        if (tableCount < 1) {
+            throw new IllegalArgumentException("At least one table is needed");
+        }
+        if (restSlots < 0) {
+            throw new IllegalArgumentException("Rest slots cannot be negative");
+        }
+
+        var gameCount = player1.length;
+        var tables = new int[gameCount];
+        var slots = new int[gameCount];
+        var playingOrder = new int[gameCount];
+        var allocated = 0;
+
+        // Pending games in schedule order, compacted as games are allocated
+        var pending = new int[gameCount];
+        Arrays.setAll(pending, game -> game);
+        var pendingCount = gameCount;
+
+        // Start from the slot before the first one any pending game could be played in
+        var slot = gameCount == 0 ? 0 : Integer.MAX_VALUE;
+        for (var game = 0; game < gameCount; game++) {
+            slot = Math.min(slot, Math.max(availableFrom[player1[game]], availableFrom[player2[game]]) - 1);
+        }
+
+        while (pendingCount > 0) {
+            slot++;
+            var table = 0;
+            var kept = 0;
+            for (var i = 0; i < pendingCount; i++) {
+                var game = pending[i];
+                if (table < tableCount
+                        && availableFrom[player1[game]] <= slot
+                        && availableFrom[player2[game]] <= slot) {
+                    table++;
+                    tables[game] = table;
+                    slots[game] = slot;
+                    playingOrder[allocated++] = game;
+                    // A game in slot s makes its players available from s + 1 + rest
+                    availableFrom[player1[game]] = slot + 1 + restSlots;
+                    availableFrom[player2[game]] = slot + 1 + restSlots;
+                } else {
+                    pending[kept++] = game;
+                }
+            }
+            pendingCount = kept;
+        }
+        return new Allocation(tables, slots, playingOrder, slot);
+    }
+}
@@ -1,14 +1,21 @@
 package com.tabletennis.service;
 
+import com.tabletennis.config.CacheConfig;
 import com.tabletennis.dto.TournamentDto;
 import com.tabletennis.dto.TournamentRequest;
 import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.Tournament.TournamentStatus;
+import com.tabletennis.event.TournamentChangedEvent;
 import com.tabletennis.mapping.TournamentMapper;
 import com.tabletennis.mapping.RegistrationMapper;
 import com.tabletennis.repository.TournamentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,23 +30,29 @@ import java.util.Optional;
 public class TournamentService {
 
     private final TournamentRepository tournamentRepository;
-    private final GameService gameService;
     private final RegistrationService registrationService;
     private final TournamentMapper tournamentMapper;
     private final RegistrationMapper registrationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Find all tournaments ordered by date and return as DTOs
+     * Registrations are loaded in bulk so the query count does not grow with the number of tournaments
+     * Cached until a {@link TournamentChangedEvent} is published
      */
+    @Cacheable(CacheConfig.TOURNAMENT_SUMMARIES)
     public List<TournamentDto> findAllOrderByDate() {
-        return tournamentRepository.findAllByOrderByDateAsc().stream()
-            .map(tournament -> {
-                var registrations = registrationService.findByTournament(tournament).stream()
-                    .map(registrationMapper::convertToDto)
-                    .toList();
-                var isStarted = gameService.isTournamentStarted(tournament);
-                return tournamentMapper.convertToDto(tournament, registrations, isStarted);
-            })
+        var tournaments = tournamentRepository.findAllByOrderByDateAsc();
+        var tournamentIds = tournaments.stream()
+            .map(Tournament::getId)
+            .toList();
+
+        var registrationsByTournament = registrationService.findByTournamentIdsDto(tournamentIds);
+
+        return tournaments.stream()
+            .map(tournament -> tournamentMapper.convertToDto(
+                tournament,
+                registrationsByTournament.getOrDefault(tournament.getId(), List.of())))
             .toList();
     }
 
@@ -49,11 +62,8 @@ public class TournamentService {
     public Optional<TournamentDto> findByIdDto(Long id) {
         return tournamentRepository.findById(id)
             .map(tournament -> {
-                var registrations = registrationService.findByTournament(tournament).stream()
-                    .map(registrationMapper::convertToDto)
-                    .toList();
-                var isStarted = gameService.isTournamentStarted(tournament);
-                return tournamentMapper.convertToDto(tournament, registrations, isStarted);
+                var registrations = registrationMapper.convertToDtos(registrationService.findByTournament(tournament));
+                return tournamentMapper.convertToDto(tournament, registrations);
             });
     }
 
@@ -67,22 +77,34 @@ public class TournamentService {
     /**
      * Create new tournament from request DTO
      */
+    @Transactional
     public TournamentDto createTournament(TournamentRequest tournamentRequest) {
         var tournament = new Tournament();
         setTournamentFields(tournament, tournamentRequest);
         var savedTournament = tournamentRepository.save(tournament);
+        eventPublisher.publishEvent(new TournamentChangedEvent(savedTournament.getId()));
         return tournamentMapper.convertToDto(savedTournament);
     }
 
     /**
      * Update tournament from request DTO
+     * A change to the maximum entrants moves an open tournament to full, or a full one back to open
      */
+    @Transactional
     public TournamentDto updateTournament(Long id, TournamentRequest tournamentRequest) {
         var tournament = tournamentRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
+        if (tournament.isStarted() && tournamentRequest.getFormat() != null
+                && tournamentRequest.getFormat() != tournament.getFormat()) {
+            throw new IllegalArgumentException("The format cannot be changed once the tournament has started");
+        }
 
         setTournamentFields(tournament, tournamentRequest);
         var savedTournament = tournamentRepository.save(tournament);
+        if (tournamentRepository.refreshCapacityStatus(id, TournamentStatus.OPEN, TournamentStatus.FULL) > 0) {
+            savedTournament.setStatus(savedTournament.isFull() ? TournamentStatus.FULL : TournamentStatus.OPEN);
+        }
+        eventPublisher.publishEvent(new TournamentChangedEvent(id));
         return tournamentMapper.convertToDto(savedTournament);
     }
 
@@ -92,43 +114,86 @@ public class TournamentService {
      */
     public long countActiveTournaments() {
         var today = LocalDate.now();
-        var twoWeeksFromNow = today.plusWeeks(2);
+        return tournamentRepository.countByDateBetween(today, today.plusWeeks(2));
+    }
+
+    /**
+     * Find tournaments dated today or later, soonest first, and return as DTOs
+     */
+    public List<TournamentDto> findUpcoming() {
+        return findUpcoming(Limit.unlimited());
+    }
+
+    /**
+     * Find at most the given number of tournaments dated today or later, soonest first, and return as DTOs
+     */
+    public List<TournamentDto> findUpcoming(int limit) {
+        return findUpcoming(Limit.of(limit));
+    }
+
+    /**
+     * Find tournaments dated before today, most recent first, and return as DTOs
+     */
+    public List<TournamentDto> findPast() {
+        return findPast(Limit.unlimited());
+    }
 
-        return tournamentRepository.findAll().stream()
-            .filter(tournament -> {
-                var tournamentDate = tournament.getDate();
-                return tournamentDate != null &&
-                       !tournamentDate.isBefore(today) &&
-                       !tournamentDate.isAfter(twoWeeksFromNow);
-            })
-            .count();
+    /**
+     * Find at most the given number of tournaments dated before today, most recent first, and return as DTOs
+     */
+    public List<TournamentDto> findPast(int limit) {
+        return findPast(Limit.of(limit));
+    }
+
+    /**
+     * Find tournaments dated within the given window (inclusive), soonest first, and return as DTOs
+     */
+    public List<TournamentDto> findInWindow(LocalDate from, LocalDate to) {
+        return findInWindow(from, to, Limit.unlimited());
+    }
+
+    /**
+     * Find at most the given number of tournaments dated within the given window (inclusive), soonest first
+     */
+    public List<TournamentDto> findInWindow(LocalDate from, LocalDate to, int limit) {
+        return findInWindow(from, to, Limit.of(limit));
     }
 
     /**
      * Delete tournament by ID
      */
+    @Transactional
     public void deleteById(Long id) {
         tournamentRepository.deleteById(id);
+        eventPublisher.publishEvent(new TournamentChangedEvent(id));
     }
 
     /**
      * Find tournaments that are available for registration and return as DTOs
+     * Only open tournaments are returned, filtered on the indexed status column
+     * Cached until a {@link TournamentChangedEvent} is published
      */
+    @Cacheable(CacheConfig.OPEN_TOURNAMENTS)
     public List<TournamentDto> findAvailableForRegistration() {
-        return tournamentRepository.findAllByOrderByDateAsc().stream()
-            .filter(tournament -> {
-                // Check if tournament has started (has games generated)
-                var hasStarted = gameService.isTournamentStarted(tournament);
-                if (hasStarted) {
-                    return false;
-                }
-
-                // Check if tournament is full
-                var registrationCount = registrationService.findByTournament(tournament).size();
-                var isFull = registrationCount >= tournament.getMaxEntrants();
-
-                return !isFull;
-            })
+        return tournamentRepository.findByStatusOrderByDateAsc(TournamentStatus.OPEN).stream()
+            .map(tournamentMapper::convertToDto)
+            .toList();
+    }
+
+    private List<TournamentDto> findUpcoming(Limit limit) {
+        return tournamentRepository.findByDateGreaterThanEqualOrderByDateAscTimeAsc(LocalDate.now(), limit).stream()
+            .map(tournamentMapper::convertToDto)
+            .toList();
+    }
+
+    private List<TournamentDto> findPast(Limit limit) {
+        return tournamentRepository.findByDateLessThanOrderByDateDescTimeDesc(LocalDate.now(), limit).stream()
+            .map(tournamentMapper::convertToDto)
+            .toList();
+    }
+
+    private List<TournamentDto> findInWindow(LocalDate from, LocalDate to, Limit limit) {
+        return tournamentRepository.findByDateBetweenOrderByDateAscTimeAsc(from, to, limit).stream()
             .map(tournamentMapper::convertToDto)
             .toList();
     }
@@ -143,5 +208,8 @@ public class TournamentService {
         tournament.setTime(tournamentRequest.getTime());
         tournament.setLocation(tournamentRequest.getLocation());
         tournament.setMaxEntrants(tournamentRequest.getMaxEntrants());
+        if (tournamentRequest.getFormat() != null) {
+            tournament.setFormat(tournamentRequest.getFormat());
+        }
     }
 }
@@ -1,19 +1,27 @@
 package com.tabletennis.service;
 
+import com.tabletennis.config.CacheConfig;
 import com.tabletennis.entity.User;
+import com.tabletennis.event.UserChangedEvent;
 import com.tabletennis.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Service class for user management and authentication
+ * Authentication lookups are cached briefly and evicted when a user changes
  */
 @Service
 @RequiredArgsConstructor
@@ -21,24 +29,24 @@ import java.util.Optional;
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Load user by username for Spring Security
+     * A new principal is built on every call because Spring Security erases its password after login
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByUsername(username)
+        var user = findCachedUser(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities("ROLE_" + user.getRole().name())
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(!user.isEnabled())
-                .build();
+        return new AuthenticatedUser(
+                user.username(),
+                user.password(),
+                user.enabled(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.role().name())),
+                user.emailSetupRequired());
     }
 
     /**
@@ -52,8 +60,9 @@ public class UserService implements UserDetailsService {
      * Check if user needs to set up email
      */
     public boolean needsEmailSetup(String username) {
-        var user = userRepository.findByUsername(username);
-        return user.isPresent() && (user.get().getEmail() == null || user.get().getEmail().trim().isEmpty());
+        return findCachedUser(username)
+                .map(CachedUser::emailSetupRequired)
+                .orElse(false);
     }
 
     /**
@@ -66,6 +75,7 @@ public class UserService implements UserDetailsService {
 
         user.setEmail(email);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
 
         log.info("Updated email for user: {}", username);
     }
@@ -77,4 +87,35 @@ public class UserService implements UserDetailsService {
         var userWithEmail = userRepository.findByEmail(email);
         return userWithEmail.isPresent() && !userWithEmail.get().getUsername().equals(currentUsername);
     }
+
+    /**
+     * Find the user through the cache, loading and caching it on a miss
+     * Unknown usernames are not cached, so a user created later can log in straight away
+     */
+    private Optional<CachedUser> findCachedUser(String username) {
+        var cache = userCache();
+        var cached = cache.get(username, CachedUser.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        var user = userRepository.findByUsername(username).map(CachedUser::of);
+        user.ifPresent(u -> cache.put(username, u));
+        return user;
+    }
+
+    private Cache userCache() {
+        return CacheConfig.requireCache(cacheManager, CacheConfig.USERS);
+    }
+
+    /**
+     * Immutable copy of the fields needed to authenticate a user
+     */
+    private record CachedUser(String username, String password, User.Role role, boolean enabled,
+            boolean emailSetupRequired) {
+
+        static CachedUser of(User user) {
+            return new CachedUser(user.getUsername(), user.getPassword(), user.getRole(), user.isEnabled(),
+                    user.getEmail() == null || user.getEmail().trim().isEmpty());
+        }
+    }
 }
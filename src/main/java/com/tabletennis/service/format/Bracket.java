@@ -0,0 +1,124 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Works out a format's fixtures from the results so far
+ * Each side of a match is an entrant index, {@link #PENDING} while it waits on a game not yet played,
+ * or {@link #NONE} when no entrant will ever fill it, in which case the other side goes through without a game
+ */
+final class Bracket {
+
+    static final int PENDING = -1;
+    static final int NONE = -2;
+
+    private final Map<Fixture.Key, Result> results;
+    private final List<Fixture> fixtures = new ArrayList<>();
+
+    Bracket(List<Result> results) {
+        this.results = results.stream().collect(Collectors.toMap(Result::key, Function.identity()));
+    }
+
+    /**
+     * Winner and loser of a match, either of which may be pending or none
+     */
+    record Outcome(int winner, int loser) {
+    }
+
+    /**
+     * Outcome of a single-elimination bracket: its winner, and the losers of each round by position
+     */
+    record Knockout(int champion, List<int[]> losers) {
+    }
+
+    /**
+     * Fixtures added so far, in the order they were added
+     */
+    List<Fixture> fixtures() {
+        return fixtures;
+    }
+
+    /**
+     * Add a fixture between two entrants, returning its result if it has been played between them
+     */
+    Result play(Game.Stage stage, int round, int position, int player1, int player2) {
+        var fixture = new Fixture(stage, round, position, player1, player2);
+        fixtures.add(fixture);
+        var result = results.get(fixture.key());
+        return result != null && result.player1() == player1 && result.player2() == player2 ? result : null;
+    }
+
+    /**
+     * Play a knockout match between two sides, adding its fixture once both are known
+     */
+    Outcome match(Game.Stage stage, int round, int position, int side1, int side2) {
+        if (side1 == NONE || side2 == NONE) {
+            return new Outcome(side1 == NONE ? side2 : side1, NONE);
+        }
+        if (side1 == PENDING || side2 == PENDING) {
+            return new Outcome(PENDING, PENDING);
+        }
+        var result = play(stage, round, position, side1, side2);
+        if (result == null || result.player1Score() == result.player2Score()) {
+            return new Outcome(PENDING, PENDING);
+        }
+        return result.player1Score() > result.player2Score()
+            ? new Outcome(side1, side2)
+            : new Outcome(side2, side1);
+    }
+
+    /**
+     * Play a single-elimination bracket over the given sides, in seed order
+     * The top seeds take any byes and are kept apart until the late rounds
+     */
+    Knockout knockout(Game.Stage stage, int[] seeds) {
+        var order = seedOrder(bracketSize(seeds.length));
+        var sides = new int[order.length];
+        for (var slot = 0; slot < order.length; slot++) {
+            sides[slot] = order[slot] < seeds.length ? seeds[order[slot]] : NONE;
+        }
+
+        var losers = new ArrayList<int[]>();
+        for (var round = 1; sides.length > 1; round++) {
+            var winners = new int[sides.length / 2];
+            var roundLosers = new int[sides.length / 2];
+            for (var position = 0; position < winners.length; position++) {
+                var outcome = match(stage, round, position, sides[2 * position], sides[2 * position + 1]);
+                winners[position] = outcome.winner();
+                roundLosers[position] = outcome.loser();
+            }
+            losers.add(roundLosers);
+            sides = winners;
+        }
+        return new Knockout(sides[0], losers);
+    }
+
+    /**
+     * Smallest power of two that holds the given number of entrants
+     */
+    static int bracketSize(int entrants) {
+        return entrants <= 1 ? 1 : Integer.highestOneBit(entrants - 1) << 1;
+    }
+
+    /**
+     * Seed indexes in bracket order, so the first seed meets the last and the top two can only meet in the final
+     */
+    static int[] seedOrder(int size) {
+        var order = new int[] {0};
+        while (order.length < size) {
+            var next = new int[order.length * 2];
+            for (var i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = next.length - 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,58 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Knockout where an entrant is only out after a second loss
+ * Losers of the winners bracket drop into the losers bracket, whose rounds alternate between its own survivors
+ * playing each other and playing the next round's drop-ins, in reverse order to put off rematches. The winners
+ * and losers bracket champions meet in a grand final, replayed once if the losers bracket champion wins it.
+ */
+public class DoubleEliminationFormat implements TournamentFormat {
+
+    @Override
+    public List<Fixture> fixtures(int entrantCount, List<Result> results) {
+        var bracket = new Bracket(results);
+        var winners = bracket.knockout(Game.Stage.WINNERS, IntStream.range(0, entrantCount).toArray());
+        var dropIns = winners.losers();
+
+        var survivors = dropIns.isEmpty() ? new int[0] : dropIns.getFirst();
+        var round = 0;
+        for (var winnersRound = 0; winnersRound < dropIns.size(); winnersRound++) {
+            if (winnersRound > 0) {
+                // Survivors play the losers of the next winners round, reversed every other round
+                var dropping = dropIns.get(winnersRound);
+                var reversed = winnersRound % 2 == 1;
+                round++;
+                var next = new int[survivors.length];
+                for (var position = 0; position < next.length; position++) {
+                    var dropIn = dropping[reversed ? dropping.length - 1 - position : position];
+                    next[position] = bracket.match(Game.Stage.LOSERS, round, position, survivors[position], dropIn)
+                        .winner();
+                }
+                survivors = next;
+            }
+            if (survivors.length > 1) {
+                // Survivors play each other, halving the field
+                round++;
+                var next = new int[survivors.length / 2];
+                for (var position = 0; position < next.length; position++) {
+                    next[position] = bracket.match(Game.Stage.LOSERS, round, position,
+                        survivors[2 * position], survivors[2 * position + 1]).winner();
+                }
+                survivors = next;
+            }
+        }
+
+        var champion = winners.champion();
+        var challenger = survivors.length == 0 ? Bracket.NONE : survivors[0];
+        var grandFinal = bracket.match(Game.Stage.GRAND_FINAL, 1, 0, champion, challenger);
+        if (grandFinal.winner() >= 0 && grandFinal.winner() == challenger) {
+            bracket.match(Game.Stage.GRAND_FINAL, 2, 0, champion, challenger);
+        }
+        return bracket.fixtures();
+    }
+}
@@ -0,0 +1,20 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+
+/**
+ * A game a format needs played, between entrants given by their index in seed order
+ * The stage, round and position identify the game, so it can be matched with a game already created for it
+ */
+public record Fixture(Game.Stage stage, int round, int position, int player1, int player2) {
+
+    public Key key() {
+        return new Key(stage, round, position);
+    }
+
+    /**
+     * Identity of a game within a tournament
+     */
+    public record Key(Game.Stage stage, int round, int position) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+import com.tabletennis.service.RoundRobinScheduler;
+import com.tabletennis.service.StandingsTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Round-robin pools of {@link #POOL_SIZE} or more entrants, or a single pool when there are fewer, then a
+ * single-elimination knockout of the top two from each pool
+ * Entrants are spread over the pools in snake order, so each pool gets an even share of the seeds. The knockout
+ * is drawn once every pool game is played, with pool winners seeded above the runners-up, so winners take any
+ * byes and meet runners-up rather than each other first.
+ */
+public class PoolsKnockoutFormat implements TournamentFormat {
+
+    static final int POOL_SIZE = 4;
+    static final int QUALIFIERS_PER_POOL = 2;
+
+    @Override
+    public List<Fixture> fixtures(int entrantCount, List<Result> results) {
+        var bracket = new Bracket(results);
+        var pools = pools(entrantCount);
+
+        var complete = true;
+        var tables = new ArrayList<StandingsTable>(pools.size());
+        var positions = new int[pools.stream().mapToInt(pool -> RoundRobinScheduler.roundCount(pool.length)).max()
+            .orElse(0) + 1];
+        var gameId = 0L;
+        for (var pool : pools) {
+            var ids = Arrays.stream(pool).mapToObj(Long::valueOf).toList();
+            var table = new StandingsTable(ids, Collections.nCopies(pool.length, ""));
+            for (var pairing : RoundRobinScheduler.schedule(pool.length).toList()) {
+                var player1 = pool[pairing.player1()];
+                var player2 = pool[pairing.player2()];
+                var result = bracket.play(Game.Stage.POOL, pairing.round(), positions[pairing.round()]++,
+                    player1, player2);
+                if (result == null) {
+                    complete = false;
+                } else {
+                    table.record(gameId++, (long) player1, (long) player2,
+                        result.player1Score(), result.player2Score());
+                }
+            }
+            tables.add(table);
+        }
+
+        bracket.knockout(Game.Stage.KNOCKOUT, complete ? qualifiers(tables) : pendingQualifiers(pools));
+        return bracket.fixtures();
+    }
+
+    /**
+     * Entrants of each pool, in seed order, dealt out in snake order
+     */
+    static List<int[]> pools(int entrantCount) {
+        var poolCount = Math.max(1, entrantCount / POOL_SIZE);
+        var members = new ArrayList<List<Integer>>(poolCount);
+        IntStream.range(0, poolCount).forEach(pool -> members.add(new ArrayList<>()));
+        for (var entrant = 0; entrant < entrantCount; entrant++) {
+            var pass = entrant / poolCount;
+            var offset = entrant % poolCount;
+            members.get(pass % 2 == 0 ? offset : poolCount - 1 - offset).add(entrant);
+        }
+        return members.stream()
+            .map(pool -> pool.stream().mapToInt(Integer::intValue).toArray())
+            .toList();
+    }
+
+    /**
+     * Pool winners then runners-up, each in pool order, so in seed order the first pool's winner is drawn
+     * against the last pool's runner-up
+     */
+    private static int[] qualifiers(List<StandingsTable> tables) {
+        var qualifiers = new ArrayList<Integer>();
+        for (var place = 0; place < QUALIFIERS_PER_POOL; place++) {
+            for (var table : tables) {
+                var standings = table.getStandings();
+                if (place < standings.size()) {
+                    qualifiers.add(standings.get(place).getPlayerId().intValue());
+                }
+            }
+        }
+        return qualifiers.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] pendingQualifiers(List<int[]> pools) {
+        var count = pools.stream().mapToInt(pool -> Math.min(pool.length, QUALIFIERS_PER_POOL)).sum();
+        var qualifiers = new int[count];
+        Arrays.fill(qualifiers, Bracket.PENDING);
+        return qualifiers;
+    }
+}
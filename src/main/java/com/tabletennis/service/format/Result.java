@@ -0,0 +1,14 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+
+/**
+ * A completed game as a format sees it, with entrants given by their index in seed order
+ */
+public record Result(Game.Stage stage, int round, int position, int player1, int player2,
+        int player1Score, int player2Score) {
+
+    public Fixture.Key key() {
+        return new Fixture.Key(stage, round, position);
+    }
+}
@@ -0,0 +1,28 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+import com.tabletennis.service.RoundRobinScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every entrant plays every other entrant once, all scheduled up front in rounds by {@link RoundRobinScheduler}
+ */
+public class RoundRobinFormat implements TournamentFormat {
+
+    @Override
+    public List<Fixture> fixtures(int entrantCount, List<Result> results) {
+        var fixtures = new ArrayList<Fixture>();
+        var positions = new int[RoundRobinScheduler.roundCount(entrantCount) + 1];
+        RoundRobinScheduler.schedule(entrantCount).forEach(pairing -> fixtures.add(new Fixture(
+            Game.Stage.ROUND_ROBIN, pairing.round(), positions[pairing.round()]++,
+            pairing.player1(), pairing.player2())));
+        return fixtures;
+    }
+
+    @Override
+    public boolean isProgressive() {
+        return false;
+    }
+}
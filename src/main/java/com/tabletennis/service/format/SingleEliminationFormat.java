@@ -0,0 +1,20 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Knockout where each loser is out, seeded so the top seeds take any byes and meet as late as possible
+ * Takes one game fewer than there are entrants
+ */
+public class SingleEliminationFormat implements TournamentFormat {
+
+    @Override
+    public List<Fixture> fixtures(int entrantCount, List<Result> results) {
+        var bracket = new Bracket(results);
+        bracket.knockout(Game.Stage.KNOCKOUT, IntStream.range(0, entrantCount).toArray());
+        return bracket.fixtures();
+    }
+}
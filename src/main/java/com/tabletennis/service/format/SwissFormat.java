@@ -0,0 +1,99 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Game;
+import com.tabletennis.service.SwissPairing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Swiss system: a fixed number of rounds, each paired by {@link SwissPairing} from the standings once the
+ * previous round is complete
+ * Suits large fields, taking about log2(n) rounds where a round robin takes n - 1, while unlike a knockout
+ * everyone plays every round. A win scores two points and a draw one; a bye counts as a win.
+ * Rounds already scheduled stand as they are: the standings are taken from their results, an entrant missing
+ * from a round having had its bye, and only the next round is paired.
+ */
+public class SwissFormat implements TournamentFormat {
+
+    static final int WIN_POINTS = 2;
+    static final int DRAW_POINTS = 1;
+
+    /**
+     * Every fixture determined by the given results, taking the played games as the only ones scheduled
+     */
+    @Override
+    public List<Fixture> fixtures(int entrantCount, List<Result> results) {
+        var scheduled = results.stream()
+                .map(result -> new Fixture(result.stage(), result.round(), result.position(),
+                        result.player1(), result.player2()))
+                .toList();
+        return fixtures(entrantCount, scheduled, results);
+    }
+
+    @Override
+    public List<Fixture> fixtures(int entrantCount, List<Fixture> scheduled, List<Result> results) {
+        var resultsByKey = results.stream().collect(Collectors.toMap(Result::key, Function.identity()));
+        var points = new int[entrantCount];
+        var played = new boolean[entrantCount][entrantCount];
+        var byes = new int[entrantCount];
+
+        var rounds = scheduled.stream()
+                .collect(Collectors.groupingBy(Fixture::round, TreeMap::new, Collectors.toList()));
+        var fixtures = new ArrayList<Fixture>(scheduled.size() + entrantCount / 2);
+        var lastRound = 0;
+        var complete = true;
+        for (var round : rounds.values()) {
+            complete = addRound(round, resultsByKey, points, played, byes);
+            fixtures.addAll(round);
+            lastRound = round.getFirst().round();
+        }
+
+        if (complete && lastRound < SwissPairing.roundCount(entrantCount)) {
+            var pairing = SwissPairing.pair(lastRound + 1, points, played, byes);
+            var position = 0;
+            for (var game : pairing.pairings()) {
+                fixtures.add(new Fixture(Game.Stage.SWISS, lastRound + 1, position++, game.player1(), game.player2()));
+            }
+        }
+        return fixtures;
+    }
+
+    /**
+     * Add a scheduled round to the standings, returning whether it pairs everyone who can play and every game in it
+     * has been played
+     */
+    private static boolean addRound(List<Fixture> round, Map<Fixture.Key, Result> resultsByKey, int[] points,
+            boolean[][] played, int[] byes) {
+        var complete = round.size() == points.length / 2;
+        var playing = new boolean[points.length];
+        for (var fixture : round) {
+            var player1 = fixture.player1();
+            var player2 = fixture.player2();
+            played[player1][player2] = true;
+            played[player2][player1] = true;
+            playing[player1] = true;
+            playing[player2] = true;
+            var result = resultsByKey.get(fixture.key());
+            if (result == null) {
+                complete = false;
+            } else if (result.player1Score() == result.player2Score()) {
+                points[player1] += DRAW_POINTS;
+                points[player2] += DRAW_POINTS;
+            } else {
+                points[result.player1Score() > result.player2Score() ? player1 : player2] += WIN_POINTS;
+            }
+        }
+        for (var player = 0; player < points.length; player++) {
+            if (!playing[player]) {
+                byes[player]++;
+                points[player] += WIN_POINTS;
+            }
+        }
+        return complete;
+    }
+}
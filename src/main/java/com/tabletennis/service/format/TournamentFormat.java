@@ -0,0 +1,46 @@
+package com.tabletennis.service.format;
+
+import com.tabletennis.entity.Tournament;
+
+import java.util.List;
+
+/**
+ * Strategy deciding which games a tournament format needs played
+ * Entrants are given by their index in seed order. Formats whose later rounds depend on results only return
+ * the fixtures the results so far determine, so games are created round by round as results arrive.
+ */
+public interface TournamentFormat {
+
+    /**
+     * Every fixture determined by the given results, including those already played
+     */
+    List<Fixture> fixtures(int entrantCount, List<Result> results);
+
+    /**
+     * Every fixture determined by the given results, building on the fixtures of the games already scheduled
+     * Formats that work everything out from the results alone ignore the scheduled ones
+     */
+    default List<Fixture> fixtures(int entrantCount, List<Fixture> scheduled, List<Result> results) {
+        return fixtures(entrantCount, results);
+    }
+
+    /**
+     * Whether later fixtures depend on results, so fixtures must be worked out again after each result
+     */
+    default boolean isProgressive() {
+        return true;
+    }
+
+    /**
+     * Strategy for the given format
+     */
+    static TournamentFormat of(Tournament.Format format) {
+        return switch (format) {
+            case ROUND_ROBIN -> new RoundRobinFormat();
+            case SINGLE_ELIMINATION -> new SingleEliminationFormat();
+            case DOUBLE_ELIMINATION -> new DoubleEliminationFormat();
+            case POOLS_KNOCKOUT -> new PoolsKnockoutFormat();
+            case SWISS -> new SwissFormat();
+        };
+    }
+}
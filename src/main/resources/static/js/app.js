@@ -102,7 +102,8 @@ function initializeCreateTournamentForm() {
             date: document.getElementById('date').value,
             time: document.getElementById('time').value,
             location: document.getElementById('location').value,
-            maxEntrants: parseInt(document.getElementById('maxEntrants').value)
+            maxEntrants: parseInt(document.getElementById('maxEntrants').value),
+            format: document.getElementById('format').value
         };
 
         try {
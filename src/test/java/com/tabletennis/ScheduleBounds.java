@@ -0,0 +1,30 @@
+package com.tabletennis;
+
+import com.tabletennis.service.RoundRobinScheduler.Pairing;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test helper giving the fewest slots any allocation of games to tables could take, to judge schedules against.
+ */
+public final class ScheduleBounds {
+
+    private ScheduleBounds() {
+    }
+
+    /**
+     * Fewest slots any allocation could take: every table busy, or the busiest player playing as often as allowed
+     */
+    public static int lowerBound(List<Pairing> pairings, int playerCount, int tableCount, int restSlots) {
+        var gamesPerPlayer = new int[playerCount];
+        pairings.forEach(pairing -> {
+            gamesPerPlayer[pairing.player1()]++;
+            gamesPerPlayer[pairing.player2()]++;
+        });
+        var busiest = Arrays.stream(gamesPerPlayer).max().orElse(0);
+        var byTables = (pairings.size() + tableCount - 1) / tableCount;
+        var byPlayers = busiest == 0 ? 0 : busiest + (busiest - 1) * restSlots;
+        return Math.max(byTables, byPlayers);
+    }
+}
@@ -0,0 +1,46 @@
+package com.tabletennis;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+/**
+ * Test helper that counts the JDBC statements Hibernate prepares while running an action.
+ * Requires hibernate.generate_statistics to be enabled and an active transaction.
+ */
+public class StatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Flush and clear the persistence context, then count the statements prepared by the action
+     */
+    public long count(Runnable action) {
+        return countAndReturn(() -> {
+            action.run();
+            return null;
+        }).statements();
+    }
+
+    /**
+     * Flush and clear the persistence context, then run the action and return its result with the statement count
+     */
+    public <T> Result<T> countAndReturn(Supplier<T> action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        var value = action.get();
+        return new Result<>(value, statistics.getPrepareStatementCount());
+    }
+
+    public record Result<T>(T value, long statements) {
+    }
+}
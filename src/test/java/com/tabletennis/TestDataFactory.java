@@ -16,6 +16,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 /**
@@ -24,6 +25,7 @@ import java.util.stream.IntStream;
 public class TestDataFactory {
 
     private static final Faker faker = new Faker();
+    private static final AtomicInteger bracketPositions = new AtomicInteger();
 
     // Player creation methods
     public static Player createPlayer() {
@@ -92,6 +94,11 @@ public class TestDataFactory {
         game.setPlayer1(player1);
         game.setPlayer2(player2);
         game.setGameOrder(faker.number().numberBetween(1, 10));
+        game.setRoundNumber(faker.number().numberBetween(1, 10));
+        game.setBracketPosition(bracketPositions.incrementAndGet());
+        game.setTableNumber(faker.number().numberBetween(1, 8));
+        game.setStartSlot(faker.number().numberBetween(1, 10));
+        game.setScheduledStart(LocalDateTime.now().minusHours(1));
         game.setPlayer1Score(faker.number().numberBetween(0, 21));
         game.setPlayer2Score(faker.number().numberBetween(0, 21));
         game.setPlayedAt(LocalDateTime.now());
@@ -108,6 +115,11 @@ public class TestDataFactory {
         game.setPlayer1(player1);
         game.setPlayer2(player2);
         game.setGameOrder(faker.number().numberBetween(1, 10));
+        game.setRoundNumber(faker.number().numberBetween(1, 10));
+        game.setBracketPosition(bracketPositions.incrementAndGet());
+        game.setTableNumber(faker.number().numberBetween(1, 8));
+        game.setStartSlot(faker.number().numberBetween(1, 10));
+        game.setScheduledStart(LocalDateTime.now().minusHours(1));
         game.setPlayer1Score(faker.number().numberBetween(0, 21));
         game.setPlayer2Score(faker.number().numberBetween(0, 21));
         game.setPlayedAt(LocalDateTime.now());
@@ -121,6 +133,7 @@ public class TestDataFactory {
         gameDto.setTournamentId(game.getTournament().getId());
         gameDto.setTournamentName(game.getTournament().getName());
         gameDto.setGameOrder(game.getGameOrder());
+        gameDto.setRoundNumber(game.getRoundNumber());
         gameDto.setPlayer1Score(game.getPlayer1Score());
         gameDto.setPlayer2Score(game.getPlayer2Score());
         gameDto.setPlayedAt(game.getPlayedAt());
@@ -0,0 +1,45 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.service.EloRating;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that replaying a million completed games across a thousand players rates every game;
+ * EloReplayBenchmark in src/jmh times it.
+ * Run with ./gradlew benchmark
+ */
+@Tag("benchmark")
+class EloReplayBenchmarkTest {
+
+    private static final int PLAYERS = 1_000;
+    private static final int GAMES = 1_000_000;
+
+    @Test
+    void replay_ShouldRateBothPlayersOfEveryGame() {
+        // Given
+        var random = new SplittableRandom(42);
+        var player1Ids = new int[GAMES];
+        var player2Ids = new int[GAMES];
+        var player1Scores = new double[GAMES];
+        for (var game = 0; game < GAMES; game++) {
+            player1Ids[game] = 1 + random.nextInt(PLAYERS);
+            player2Ids[game] = 1 + (player1Ids[game] + random.nextInt(PLAYERS - 1)) % PLAYERS;
+            player1Scores[game] = random.nextBoolean() ? 1 : 0;
+        }
+
+        // When
+        var replay = EloRating.replay(PLAYERS + 1, player1Ids, player2Ids, player1Scores);
+
+        // Then
+        var ratedGames = 0L;
+        for (var games : replay.ratedGames()) {
+            ratedGames += games;
+        }
+        assertEquals(2L * GAMES, ratedGames);
+    }
+}
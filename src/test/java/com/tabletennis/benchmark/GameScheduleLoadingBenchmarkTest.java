@@ -0,0 +1,102 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.StatementCounter;
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.mapping.GameMapper;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRepository;
+import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
+import com.tabletennis.service.GameService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the statements needed to load a tournament schedule through lazy player associations and through the
+ * fetch-joined query; GameScheduleLoadingBenchmark in src/jmh times the two.
+ * Run with ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class GameScheduleLoadingBenchmarkTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameMapper gameMapper;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository registrationRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManager);
+    }
+
+    @ParameterizedTest(name = "{0} players")
+    @ValueSource(ints = {16, 64, 128})
+    void fetchJoinedSchedule_ShouldLoadInOneStatementWhereLazyLoadingTakesOnePerPlayer(int playerCount) {
+        // Given
+        var tournament = createStartedTournament(playerCount);
+        var expectedGames = playerCount * (playerCount - 1) / 2;
+
+        // When
+        var lazy = statementCounter.countAndReturn(() -> gameRepository.findByTournamentOrderByGameOrderAsc(tournament)
+                .stream()
+                .map(gameMapper::convertToDto)
+                .toList());
+        var fetchJoined = statementCounter.countAndReturn(() -> gameService.getGamesForTournamentDto(tournament));
+
+        // Then
+        assertEquals(expectedGames, lazy.value().size());
+        assertEquals(expectedGames, fetchJoined.value().size());
+        assertTrue(lazy.statements() > playerCount);
+        assertEquals(1, fetchJoined.statements());
+    }
+
+    private Tournament createStartedTournament(int playerCount) {
+        var tournament = TestDataFactory.createTournament();
+        tournament.setMaxEntrants(playerCount);
+        var savedTournament = tournamentRepository.save(tournament);
+
+        TestDataFactory.createTournamentRegistrationsForTournament(savedTournament, playerCount)
+                .forEach(registration -> {
+                    playerRepository.save(registration.getPlayer());
+                    registrationRepository.save(registration);
+                });
+
+        gameService.startTournament(savedTournament, 1, Duration.ofMinutes(20), 0);
+        return savedTournament;
+    }
+}
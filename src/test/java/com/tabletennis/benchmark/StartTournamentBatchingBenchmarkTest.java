@@ -0,0 +1,100 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.StatementCounter;
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRepository;
+import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
+import com.tabletennis.service.GameService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the statements needed to start a round-robin tournament with batched game inserts;
+ * StartTournamentBatchingBenchmark in src/jmh times it.
+ * Run with ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StartTournamentBatchingBenchmarkTest {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository registrationRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManager);
+    }
+
+    @ParameterizedTest(name = "{0} players")
+    @ValueSource(ints = {16, 64, 128})
+    void startTournament_ShouldInsertGamesInBatches(int playerCount) {
+        // Given
+        var tournament = createTournamentWithPlayers(playerCount);
+        var expectedGames = playerCount * (playerCount - 1) / 2;
+
+        // When
+        var statements = statementCounter.count(() -> {
+            gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0);
+            entityManager.flush();
+        });
+
+        // Then
+        // One batch of inserts and one sequence call per 50 games, one batch of seed updates per 50 players,
+        // plus the started check, the schedule settings update and the registration load
+        var batches = (expectedGames + BATCH_SIZE - 1) / BATCH_SIZE;
+        var seedBatches = (playerCount + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertEquals(expectedGames, gameRepository.findByTournamentOrderByGameOrderAsc(tournament).size());
+        assertTrue(statements <= 2L * batches + seedBatches + 4,
+                "Expected batched inserts but got " + statements + " statements");
+    }
+
+    private Tournament createTournamentWithPlayers(int playerCount) {
+        var tournament = TestDataFactory.createTournament();
+        tournament.setMaxEntrants(playerCount);
+        var savedTournament = tournamentRepository.save(tournament);
+
+        TestDataFactory.createTournamentRegistrationsForTournament(savedTournament, playerCount)
+                .forEach(registration -> {
+                    playerRepository.save(registration.getPlayer());
+                    registrationRepository.save(registration);
+                });
+        return savedTournament;
+    }
+}
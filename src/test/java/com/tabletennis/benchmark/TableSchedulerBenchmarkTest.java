@@ -0,0 +1,35 @@
+package com.tabletennis.benchmark;
+
+import com.tabletennis.ScheduleBounds;
+import com.tabletennis.service.RoundRobinScheduler;
+import com.tabletennis.service.TableScheduler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks how close the allocation of large events comes to the fewest slots possible;
+ * TableSchedulerBenchmark in src/jmh times it.
+ * Run with ./gradlew benchmark
+ */
+@Tag("benchmark")
+class TableSchedulerBenchmarkTest {
+
+    @ParameterizedTest(name = "{0} players, {1} tables, {2} rest slots")
+    @CsvSource({"32, 4, 1", "64, 8, 1", "128, 8, 0", "128, 8, 1", "128, 16, 2"})
+    void allocate_ShouldComeWithinTenPercentOfTheLowerBound(int playerCount, int tableCount, int restSlots) {
+        // Given
+        var pairings = RoundRobinScheduler.schedule(playerCount).toList();
+
+        // When
+        var allocation = TableScheduler.allocate(pairings, playerCount, tableCount, restSlots);
+
+        // Then
+        var lowerBound = ScheduleBounds.lowerBound(pairings, playerCount, tableCount, restSlots);
+        assertEquals(pairings.size(), allocation.playingOrder().length);
+        assertTrue(allocation.slotCount() <= lowerBound * 11 / 10, "Allocation is more than 10% over the lower bound");
+    }
+}
@@ -1,5 +1,6 @@
 package com.tabletennis.config;
 
+import com.tabletennis.service.AuthenticatedUser;
 import com.tabletennis.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,7 +12,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 
 import java.io.IOException;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,4 +70,19 @@ class EmailSetupAuthenticationSuccessHandlerTest {
         verify(userService).needsEmailSetup(username);
         verify(response).sendRedirect("/admin");
     }
+
+    @Test
+    void onAuthenticationSuccess_WithAuthenticatedUserPrincipal_ShouldUseLoadedFlagWithoutLookup() throws IOException {
+        // Given
+        var principal = new AuthenticatedUser("testuser", "password", true, List.of(), true);
+        when(authentication.getName()).thenReturn(principal.getUsername());
+        when(authentication.getPrincipal()).thenReturn(principal);
+
+        // When
+        handler.onAuthenticationSuccess(request, response, authentication);
+
+        // Then
+        verify(userService, never()).needsEmailSetup(any());
+        verify(response).sendRedirect("/setup-email");
+    }
 }
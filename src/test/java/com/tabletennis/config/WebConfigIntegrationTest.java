@@ -0,0 +1,70 @@
+package com.tabletennis.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WebConfigIntegrationTest {
+
+    private static final Pattern VERSIONED_CSS = Pattern.compile("/css/main-[0-9a-f]{32}\\.css");
+    private static final Pattern VERSIONED_JS = Pattern.compile("/js/app-[0-9a-f]{32}\\.js");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void renderedPage_ShouldLinkContentHashedAssets() throws Exception {
+        // When
+        var html = renderRegistrationPage();
+
+        // Then
+        assertTrue(VERSIONED_CSS.matcher(html).find(), "Expected a versioned stylesheet link");
+        assertTrue(VERSIONED_JS.matcher(html).find(), "Expected a versioned script link");
+    }
+
+    @Test
+    void versionedAsset_ShouldBeServedImmutableAndGzipped() throws Exception {
+        // Given
+        var matcher = VERSIONED_CSS.matcher(renderRegistrationPage());
+        assertTrue(matcher.find());
+
+        // When & Then
+        mockMvc.perform(get(matcher.group()).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)));
+    }
+
+    @Test
+    void plainAsset_ShouldBeRevalidatedRatherThanCachedAsImmutable() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/css/main.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("immutable"))));
+    }
+
+    private String renderRegistrationPage() throws Exception {
+        return mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
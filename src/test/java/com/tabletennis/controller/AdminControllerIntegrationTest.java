@@ -1,12 +1,18 @@
 package com.tabletennis.controller;
 
 import com.tabletennis.TestDataFactory;
+import com.tabletennis.dto.GameResult;
+import com.tabletennis.dto.TournamentRegistrationCount;
+import com.tabletennis.entity.Game;
+import com.tabletennis.entity.Player;
 import com.tabletennis.entity.Tournament;
 import com.tabletennis.entity.TournamentRegistration;
 import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRatingHistoryRepository;
 import com.tabletennis.repository.PlayerRepository;
 import com.tabletennis.repository.TournamentRegistrationRepository;
 import com.tabletennis.repository.TournamentRepository;
+import com.tabletennis.service.GameService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,12 +23,24 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -45,6 +63,12 @@ class AdminControllerIntegrationTest {
     @Autowired
     private GameRepository gameRepository;
 
+    @Autowired
+    private PlayerRatingHistoryRepository ratingHistoryRepository;
+
+    @Autowired
+    private GameService gameService;
+
     private Tournament tournament;
 
     @BeforeEach
@@ -80,6 +104,31 @@ class AdminControllerIntegrationTest {
                 .andExpect(content().string(containsString("Admin Control Panel")));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showAdminDashboard_ShouldExposeAggregatedStatistics() throws Exception {
+        mockMvc.perform(get("/admin"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("totalTournaments", 1L))
+                .andExpect(model().attribute("totalRegistrations", 2L))
+                .andExpect(model().attribute("tournamentCounts", Map.of(tournament.getId(),
+                        new TournamentRegistrationCount(tournament.getId(), tournament.getName(), 2L))));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showAdminDashboard_ShouldRenderStartedStatusWithoutServiceInModel() throws Exception {
+        // Given
+        gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0);
+
+        // When & Then
+        mockMvc.perform(get("/admin"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeDoesNotExist("gameService"))
+                .andExpect(content().string(containsString("View Games")))
+                .andExpect(content().string(not(containsString("Start Tournament"))));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void startTournament_WithValidTournament_ShouldRedirectToGamesPage() throws Exception {
@@ -87,6 +136,31 @@ class AdminControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void startTournament_WithScheduleOptions_ShouldAllocateGamesToTables() throws Exception {
+        mockMvc.perform(post("/admin/tournaments/{id}/start", tournament.getId())
+                        .param("tableCount", "2")
+                        .param("slotMinutes", "30")
+                        .param("restSlots", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin/tournaments/" + tournament.getId() + "/games"));
+
+        var game = gameRepository.findAll().getFirst();
+        assertEquals(1, game.getTableNumber());
+        assertEquals(1, game.getStartSlot());
+        assertEquals(LocalDateTime.of(tournament.getDate(), tournament.getTime()), game.getScheduledStart());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void startTournament_WithNoTables_ShouldRedirectWithError() throws Exception {
+        mockMvc.perform(post("/admin/tournaments/{id}/start", tournament.getId())
+                        .param("tableCount", "0"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin"));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void startTournament_WithInvalidTournament_ShouldRedirectToAdmin() throws Exception {
@@ -145,6 +219,154 @@ class AdminControllerIntegrationTest {
         }
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTournamentStandings_AfterResultIsRecorded_ShouldReturnRankedStandings() throws Exception {
+        mockMvc.perform(post("/admin/tournaments/{id}/start", tournament.getId()))
+                .andExpect(status().is3xxRedirection());
+        var game = gameRepository.findAll().getFirst();
+        mockMvc.perform(post("/admin/games/{gameId}/result", game.getId())
+                        .param("player1Score", "7")
+                        .param("player2Score", "11"))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(get("/admin/tournaments/{id}/standings", tournament.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].position").value(1))
+                .andExpect(jsonPath("$[0].playerId").value(game.getPlayer2().getId()))
+                .andExpect(jsonPath("$[0].won").value(1))
+                .andExpect(jsonPath("$[0].pointsDifference").value(4))
+                .andExpect(jsonPath("$[1].lost").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTournamentStandings_WithInvalidTournament_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/admin/tournaments/{id}/standings", 99999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTournamentHeadToHead_AfterResultIsRecorded_ShouldReturnCrosstableInRegistrationOrder() throws Exception {
+        mockMvc.perform(post("/admin/tournaments/{id}/start", tournament.getId()))
+                .andExpect(status().is3xxRedirection());
+        var game = gameRepository.findAll().getFirst();
+        mockMvc.perform(post("/admin/games/{gameId}/result", game.getId())
+                        .param("player1Score", "7")
+                        .param("player2Score", "11"))
+                .andExpect(status().is3xxRedirection());
+        var firstRegistered = registrationRepository.findByTournament(tournament).getFirst().getPlayer().getId();
+        var firstRegisteredWon = firstRegistered.equals(game.getPlayer2().getId());
+
+        mockMvc.perform(get("/admin/tournaments/{id}/head-to-head", tournament.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].playerId").value(firstRegistered))
+                .andExpect(jsonPath("$[0].results[0]").doesNotExist())
+                .andExpect(jsonPath("$[0].results[1].played").value(1))
+                .andExpect(jsonPath("$[0].results[1].won").value(firstRegisteredWon ? 1 : 0))
+                .andExpect(jsonPath("$[1].results[0].won").value(firstRegisteredWon ? 0 : 1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTournamentHeadToHead_WithInvalidTournament_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/admin/tournaments/{id}/head-to-head", 99999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showTournamentCrosstable_ShouldRenderCrosstablePage() throws Exception {
+        mockMvc.perform(get("/admin/tournaments/{id}/crosstable", tournament.getId()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("admin/crosstable"))
+                .andExpect(model().attributeExists("crosstable"))
+                .andExpect(content().string(containsString("Crosstable")));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showTournamentCrosstable_WithInvalidTournament_ShouldRedirectToAdmin() throws Exception {
+        mockMvc.perform(get("/admin/tournaments/{id}/crosstable", 99999L))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showTournamentGames_ShouldRenderStandingsTable() throws Exception {
+        mockMvc.perform(get("/admin/tournaments/{id}/games", tournament.getId()))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("standings"))
+                .andExpect(content().string(containsString("Standings")));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void recomputeRatings_ShouldMatchIncrementalRatingsAndRebuildHistory() throws Exception {
+        mockMvc.perform(post("/admin/tournaments/{id}/start", tournament.getId()))
+                .andExpect(status().is3xxRedirection());
+        var game = gameRepository.findAll().getFirst();
+        mockMvc.perform(post("/admin/games/{gameId}/result", game.getId())
+                        .param("player1Score", "11")
+                        .param("player2Score", "9"))
+                .andExpect(status().is3xxRedirection());
+        var winnerRating = playerRepository.findById(game.getPlayer1().getId()).orElseThrow().getRating();
+
+        mockMvc.perform(post("/admin/ratings/recompute"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin"))
+                .andExpect(flash().attribute("success", "Ratings recomputed from 1 games."));
+
+        var winner = playerRepository.findById(game.getPlayer1().getId()).orElseThrow();
+        assertEquals(winnerRating, winner.getRating(), 1e-9);
+        assertEquals(1, winner.getRatedGames());
+        assertEquals(2, ratingHistoryRepository.findByGameId(game.getId()).size());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void recomputeRatings_AfterCorrectingAnEarlyResult_ShouldReplayGamesInTheOrderFirstPlayed() throws Exception {
+        var player3 = playerRepository.save(TestDataFactory.createPlayer());
+        registrationRepository.save(new TournamentRegistration(player3, tournament));
+        mockMvc.perform(post("/admin/tournaments/{id}/start", tournament.getId()))
+                .andExpect(status().is3xxRedirection());
+        var games = gameRepository.findAll().stream()
+                .sorted(Comparator.comparing(Game::getId))
+                .toList();
+        // Play the game with the higher ID first, so playing order and ID order disagree
+        var early = games.getLast();
+        var later = games.getFirst();
+
+        mockMvc.perform(post("/admin/games/{gameId}/result", early.getId())
+                        .param("player1Score", "11")
+                        .param("player2Score", "9"))
+                .andExpect(status().is3xxRedirection());
+        var earlyGame = gameRepository.findById(early.getId()).orElseThrow();
+        earlyGame.setPlayedAt(LocalDateTime.now().minusHours(1));
+        gameRepository.saveAndFlush(earlyGame);
+        mockMvc.perform(post("/admin/games/{gameId}/result", later.getId())
+                        .param("player1Score", "11")
+                        .param("player2Score", "5"))
+                .andExpect(status().is3xxRedirection());
+        mockMvc.perform(post("/admin/games/{gameId}/result", early.getId())
+                        .param("player1Score", "9")
+                        .param("player2Score", "11"))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(post("/admin/ratings/recompute"))
+                .andExpect(flash().attribute("success", "Ratings recomputed from 2 games."));
+
+        try (var results = gameRepository.streamResultsInPlayingOrder(Game.GameStatus.COMPLETED)) {
+            assertEquals(List.of(early.getId(), later.getId()), results.map(GameResult::getGameId).toList());
+        }
+        var earlyHistory = ratingHistoryRepository.findByGameId(early.getId());
+        assertEquals(2, earlyHistory.size());
+        earlyHistory.forEach(change -> assertEquals(Player.INITIAL_RATING, change.getRatingBefore(), 1e-9));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void updateGameResult_WithInvalidGame_ShouldRedirectWithError() throws Exception {
@@ -0,0 +1,97 @@
+package com.tabletennis.controller;
+
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.entity.Player;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRepository;
+import com.tabletennis.repository.TournamentRegistrationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class LeaderboardControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository registrationRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository.deleteAll();
+        registrationRepository.deleteAll();
+        playerRepository.deleteAll();
+
+        // Two players share a rating, so paging has to break the tie by ID; the last has no rated games
+        players = new ArrayList<>();
+        for (var rating : new double[] {1600, 1550, 1550, 1400, 1500}) {
+            var player = TestDataFactory.createPlayer();
+            player.setRating(rating);
+            player.setRatedGames(rating == Player.INITIAL_RATING ? 0 : 3);
+            players.add(playerRepository.save(player));
+        }
+    }
+
+    @Test
+    void getLeaderboard_ShouldListRatedPlayersHighestFirstWithoutAuthentication() throws Exception {
+        mockMvc.perform(get("/leaderboard"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.entries.length()").value(4))
+                .andExpect(jsonPath("$.entries[0].playerId").value(players.get(0).getId()))
+                .andExpect(jsonPath("$.entries[0].rating").value(1600.0))
+                .andExpect(jsonPath("$.entries[3].playerId").value(players.get(3).getId()))
+                .andExpect(jsonPath("$.nextAfterRating").doesNotExist());
+    }
+
+    @Test
+    void getLeaderboard_WithCursor_ShouldContinueAfterThePreviousPage() throws Exception {
+        mockMvc.perform(get("/leaderboard").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[1].playerId").value(players.get(1).getId()))
+                .andExpect(jsonPath("$.nextAfterRating").value(1550.0))
+                .andExpect(jsonPath("$.nextAfterId").value(players.get(1).getId()));
+
+        mockMvc.perform(get("/leaderboard")
+                        .param("size", "2")
+                        .param("afterRating", "1550")
+                        .param("afterId", players.get(1).getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(2))
+                .andExpect(jsonPath("$.entries[0].playerId").value(players.get(2).getId()))
+                .andExpect(jsonPath("$.entries[1].playerId").value(players.get(3).getId()))
+                .andExpect(jsonPath("$.nextAfterId").doesNotExist());
+    }
+
+    @Test
+    void getLeaderboard_WithOversizedPage_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/leaderboard").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+}
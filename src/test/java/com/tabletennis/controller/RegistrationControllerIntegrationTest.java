@@ -3,6 +3,7 @@ package com.tabletennis.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tabletennis.TestDataFactory;
 import com.tabletennis.dto.RegistrationRequest;
+import com.tabletennis.dto.TournamentRegistrationCount;
 import com.tabletennis.entity.Tournament;
 import com.tabletennis.repository.PlayerRepository;
 import com.tabletennis.repository.TournamentRegistrationRepository;
@@ -12,16 +13,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -83,6 +89,29 @@ class RegistrationControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Registration successful"));
     }
 
+    @Test
+    void processRegistration_WhenAlreadyRegistered_ShouldReturnError() throws Exception {
+        // Given
+        var request = new RegistrationRequest();
+        request.setTournamentId(tournament.getId());
+        request.setFirstName("John");
+        request.setSurname("Doe");
+        request.setEmail("john.doe@example.com");
+
+        mockMvc.perform(post("/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(post("/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(containsString("already registered")));
+    }
+
     @Test
     void processRegistration_WithInvalidTournamentId_ShouldReturnError() throws Exception {
         // Given
@@ -126,4 +155,53 @@ class RegistrationControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("Tournament Registrations")));
     }
+
+    @Test
+    void showRegistrations_ShouldCountSameNamedTournamentsSeparately() throws Exception {
+        // Given
+        var sameNameTournament = TestDataFactory.createTournament();
+        sameNameTournament.setName(tournament.getName());
+        sameNameTournament = tournamentRepository.save(sameNameTournament);
+
+        for (var registration : TestDataFactory.createTournamentRegistrationsForTournament(tournament, 2)) {
+            playerRepository.save(registration.getPlayer());
+            registrationRepository.save(registration);
+        }
+        var otherRegistration = TestDataFactory.createTournamentRegistrationWithTournament(sameNameTournament);
+        playerRepository.save(otherRegistration.getPlayer());
+        registrationRepository.save(otherRegistration);
+
+        // When & Then
+        mockMvc.perform(get("/registrations"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("tournamentCounts", aMapWithSize(2)))
+                .andExpect(model().attribute("tournamentCounts", hasEntry(tournament.getId(),
+                        new TournamentRegistrationCount(tournament.getId(), tournament.getName(), 2L))))
+                .andExpect(model().attribute("tournamentCounts", hasEntry(sameNameTournament.getId(),
+                        new TournamentRegistrationCount(sameNameTournament.getId(), tournament.getName(), 1L))));
+    }
+
+    @Test
+    void showRegistrationForm_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        // Given
+        var etag = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void showRegistrations_WithStaleETag_ShouldRenderPage() throws Exception {
+        mockMvc.perform(get("/registrations").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(containsString("Tournament Registrations")));
+    }
 }
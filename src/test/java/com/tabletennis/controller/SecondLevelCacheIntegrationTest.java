@@ -0,0 +1,103 @@
+package com.tabletennis.controller;
+
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.entity.Player;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRepository;
+import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional: each page render must run in its own session so only the second-level cache is shared
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    private static final int PLAYERS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository registrationRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        var tournament = tournamentRepository.save(TestDataFactory.createTournament());
+        TestDataFactory.createTournamentRegistrationsForTournament(tournament, PLAYERS).forEach(registration -> {
+            playerRepository.save(registration.getPlayer());
+            registrationRepository.save(registration);
+        });
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void showRegistrations_WhenRenderedAgain_ShouldNotReselectPlayers() throws Exception {
+        // Given
+        statistics.clear();
+        mockMvc.perform(get("/registrations")).andExpect(status().isOk());
+        var playerStatistics = statistics.getEntityStatistics(Player.class.getName());
+        var playersLoadedByFirstRender = playerStatistics.getLoadCount();
+
+        // When
+        statistics.clear();
+        mockMvc.perform(get("/registrations")).andExpect(status().isOk());
+
+        // Then
+        playerStatistics = statistics.getEntityStatistics(Player.class.getName());
+        assertEquals(PLAYERS, playersLoadedByFirstRender);
+        assertEquals(0, playerStatistics.getLoadCount());
+        assertTrue(playerStatistics.getCacheHitCount() >= PLAYERS,
+                "Expected players to come from the second-level cache but hits were " + playerStatistics.getCacheHitCount());
+    }
+
+    private void cleanUp() {
+        gameRepository.deleteAll();
+        registrationRepository.deleteAll();
+        playerRepository.deleteAll();
+        tournamentRepository.deleteAll();
+    }
+}
@@ -1,30 +1,39 @@
 package com.tabletennis.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tabletennis.StatementCounter;
 import com.tabletennis.TestDataFactory;
 import com.tabletennis.dto.TournamentRequest;
 import com.tabletennis.entity.Tournament;
 import com.tabletennis.repository.PlayerRepository;
 import com.tabletennis.repository.TournamentRegistrationRepository;
 import com.tabletennis.repository.TournamentRepository;
+import com.tabletennis.service.GameService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -50,6 +59,12 @@ class TournamentControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private GameService gameService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private Tournament tournament;
 
     @BeforeEach
@@ -72,6 +87,53 @@ class TournamentControllerIntegrationTest {
                 .andExpect(content().string(containsString("Tournaments")));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showTournaments_WithMatchingETag_ShouldReturnPrivateNotModified() throws Exception {
+        // Given
+        var etag = mockMvc.perform(get("/tournaments"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/tournaments").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showTournaments_ShouldUseConstantNumberOfStatements_AsTournamentsGrow() throws Exception {
+        // Given
+        var statementCounter = new StatementCounter(entityManager);
+        createStartedTournamentWithPlayers(2);
+        var statementsForTwoTournaments = statementCounter.count(this::renderTournamentsPage);
+
+        createStartedTournamentWithPlayers(3);
+        createStartedTournamentWithPlayers(2);
+
+        // When
+        var statementsForFourTournaments = statementCounter.count(this::renderTournamentsPage);
+
+        // Then
+        assertEquals(statementsForTwoTournaments, statementsForFourTournaments);
+        assertTrue(statementsForFourTournaments <= 3);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void showTournaments_ShouldOnlyAllowDeletingTournamentsThatHaveNotStarted() throws Exception {
+        // Given
+        createStartedTournamentWithPlayers(2);
+
+        // When & Then
+        mockMvc.perform(get("/tournaments"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Delete (Started)")))
+                .andExpect(content().string(containsString("deleteTournament(" + tournament.getId() + ")")));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void showCreateTournamentForm_ShouldReturnCreateTournamentPage() throws Exception {
@@ -190,4 +252,22 @@ class TournamentControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("http://localhost/login"));
     }
+
+    private void renderTournamentsPage() {
+        try {
+            mockMvc.perform(get("/tournaments")).andExpect(status().isOk());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void createStartedTournamentWithPlayers(int playerCount) {
+        var startedTournament = tournamentRepository.save(TestDataFactory.createTournament());
+        var registrations = TestDataFactory.createTournamentRegistrationsForTournament(startedTournament, playerCount);
+        registrations.forEach(registration -> {
+            playerRepository.save(registration.getPlayer());
+            registrationRepository.save(registration);
+        });
+        gameService.startTournament(startedTournament, 1, Duration.ofMinutes(20), 0);
+    }
 }
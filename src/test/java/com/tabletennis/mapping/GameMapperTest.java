@@ -56,6 +56,10 @@ class GameMapperTest {
         assertEquals(game.getTournament().getId(), result.getTournamentId());
         assertEquals(game.getTournament().getName(), result.getTournamentName());
         assertEquals(game.getGameOrder(), result.getGameOrder());
+        assertEquals(game.getRoundNumber(), result.getRoundNumber());
+        assertEquals(game.getTableNumber(), result.getTableNumber());
+        assertEquals(game.getStartSlot(), result.getStartSlot());
+        assertEquals(game.getScheduledStart(), result.getScheduledStart());
         assertEquals(game.getPlayer1Score(), result.getPlayer1Score());
         assertEquals(game.getPlayer2Score(), result.getPlayer2Score());
         assertEquals(game.getPlayedAt(), result.getPlayedAt());
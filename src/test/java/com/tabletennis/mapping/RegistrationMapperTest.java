@@ -10,9 +10,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,4 +88,51 @@ class RegistrationMapperTest {
         // When & Then
         assertThrows(NullPointerException.class, () -> registrationMapper.convertToDto(registration));
     }
+
+    @Test
+    void convertToDtos_ShouldShareOneDtoPerTournamentAndPlayer() {
+        // Given
+        var tournament = registration.getTournament();
+        tournament.setId(TestDataFactory.randomId());
+        player.setId(TestDataFactory.randomId());
+        var otherPlayer = TestDataFactory.createPlayer();
+        otherPlayer.setId(player.getId() + 1);
+        var sameTournamentRegistration = new TournamentRegistration(otherPlayer, tournament);
+        var samePlayerRegistration = new TournamentRegistration(player, tournament);
+
+        var tournamentDto = TestDataFactory.createTournamentDtoFromTournament(tournament);
+        when(playerMapper.convertToDto(player)).thenReturn(playerDto);
+        when(playerMapper.convertToDto(otherPlayer)).thenReturn(TestDataFactory.createPlayerDtoFromPlayer(otherPlayer));
+        when(tournamentMapper.convertToDto(tournament)).thenReturn(tournamentDto);
+
+        // When
+        var result = registrationMapper.convertToDtos(
+                List.of(registration, sameTournamentRegistration, samePlayerRegistration));
+
+        // Then
+        assertEquals(3, result.size());
+        assertSame(tournamentDto, result.get(0).getTournament());
+        assertSame(tournamentDto, result.get(1).getTournament());
+        assertSame(result.get(0).getPlayer(), result.get(2).getPlayer());
+        assertEquals(otherPlayer.getEmail(), result.get(1).getPlayerEmail());
+        verify(tournamentMapper, times(1)).convertToDto(tournament);
+        verify(playerMapper, times(1)).convertToDto(player);
+    }
+
+    @Test
+    void convertToDtos_WithUnsavedEntities_ShouldMapEachRegistrationSeparately() {
+        // Given
+        var secondRegistration = new TournamentRegistration(player, registration.getTournament());
+        when(playerMapper.convertToDto(player)).thenReturn(playerDto);
+        when(tournamentMapper.convertToDto(registration.getTournament()))
+                .thenReturn(TestDataFactory.createTournamentDtoFromTournament(registration.getTournament()));
+
+        // When
+        var result = registrationMapper.convertToDtos(List.of(registration, secondRegistration));
+
+        // Then
+        assertEquals(2, result.size());
+        verify(playerMapper, times(2)).convertToDto(player);
+        verify(tournamentMapper, times(2)).convertToDto(registration.getTournament());
+    }
 }
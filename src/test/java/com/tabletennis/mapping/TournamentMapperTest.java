@@ -39,11 +39,8 @@ class TournamentMapperTest {
 
     @Test
     void convertToDto_ShouldMapTournamentToDto() {
-        // Given
-        var isStarted = false;
-
         // When
-        var result = tournamentMapper.convertToDto(tournament, registrationDtos, isStarted);
+        var result = tournamentMapper.convertToDto(tournament, registrationDtos);
 
         // Then
         assertNotNull(result);
@@ -55,16 +52,16 @@ class TournamentMapperTest {
         assertEquals(tournament.getLocation(), result.getLocation());
         assertEquals(tournament.getMaxEntrants(), result.getMaxEntrants());
         assertEquals(registrationDtos, result.getRegistrations());
-        assertEquals(isStarted, result.isStarted());
+        assertFalse(result.isStarted());
     }
 
     @Test
     void convertToDto_WithoutRegistrations_ShouldMapTournamentToDto() {
         // Given
-        var isStarted = true;
+        tournament.setStatus(Tournament.TournamentStatus.STARTED);
 
         // When
-        var result = tournamentMapper.convertToDto(tournament, List.of(), isStarted);
+        var result = tournamentMapper.convertToDto(tournament, List.of());
 
         // Then
         assertNotNull(result);
@@ -101,13 +98,13 @@ class TournamentMapperTest {
     void convertToDto_WithNullTournament_ShouldThrowException() {
         // When & Then
         assertThrows(NullPointerException.class, () ->
-                tournamentMapper.convertToDto(null, registrationDtos, false));
+                tournamentMapper.convertToDto(null, registrationDtos));
     }
 
     @Test
     void convertToDto_WithNullRegistrations_ShouldHandleGracefully() {
         // When
-        var result = tournamentMapper.convertToDto(tournament, null, false);
+        var result = tournamentMapper.convertToDto(tournament, null);
 
         // Then
         assertNotNull(result);
@@ -140,4 +137,49 @@ class TournamentMapperTest {
         // When & Then
         assertThrows(NullPointerException.class, () -> tournamentMapper.convertToEntity(null));
     }
+
+    @Test
+    void convertToDto_WithRegistrationCount_ShouldSetRemainingSlots() {
+        // Given
+        tournament.setMaxEntrants(8);
+        tournament.setRegistrationCount(5);
+
+        // When
+        var result = tournamentMapper.convertToDto(tournament);
+
+        // Then
+        assertEquals(tournament.getName(), result.getName());
+        assertEquals(5, result.getCurrentRegistrations());
+        assertEquals(3, result.getRemainingSlots());
+        assertFalse(result.isFull());
+        assertFalse(result.isStarted());
+    }
+
+    @Test
+    void convertToDto_WithRegistrationCountAtCapacity_ShouldBeFullWithNoRemainingSlots() {
+        // Given
+        tournament.setMaxEntrants(4);
+        tournament.setRegistrationCount(4);
+        tournament.setStatus(Tournament.TournamentStatus.FULL);
+
+        // When
+        var result = tournamentMapper.convertToDto(tournament);
+
+        // Then
+        assertEquals(0, result.getRemainingSlots());
+        assertTrue(result.isFull());
+        assertFalse(result.isStarted());
+    }
+
+    @Test
+    void convertToDto_WithCompletedTournament_ShouldBeStarted() {
+        // Given
+        tournament.setStatus(Tournament.TournamentStatus.COMPLETED);
+
+        // When
+        var result = tournamentMapper.convertToDto(tournament);
+
+        // Then
+        assertTrue(result.isStarted());
+    }
 }
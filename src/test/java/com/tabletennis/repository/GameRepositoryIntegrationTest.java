@@ -1,11 +1,15 @@
 package com.tabletennis.repository;
 
 import com.tabletennis.TestDataFactory;
+import com.tabletennis.entity.Game;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -170,4 +174,30 @@ class GameRepositoryIntegrationTest {
         // Then
         assertFalse(result);
     }
+
+    @Test
+    void findScheduleByTournament_ShouldReturnOrderedGamesWithPlayersInitialized() {
+        // Given
+        var tournament = TestDataFactory.createTournament();
+        entityManager.persistAndFlush(tournament);
+
+        var games = TestDataFactory.createGamesForTournament(tournament, 3);
+        for (var i = 0; i < games.size(); i++) {
+            var game = games.get(i);
+            game.setGameOrder(games.size() - i);
+            entityManager.persistAndFlush(game.getPlayer1());
+            entityManager.persistAndFlush(game.getPlayer2());
+            entityManager.persistAndFlush(game);
+        }
+        entityManager.clear();
+
+        // When
+        var result = gameRepository.findScheduleByTournament(tournament);
+
+        // Then
+        assertEquals(List.of(1, 2, 3), result.stream().map(Game::getGameOrder).toList());
+        assertTrue(result.stream().allMatch(game -> Hibernate.isInitialized(game.getPlayer1())
+                && Hibernate.isInitialized(game.getPlayer2())
+                && Hibernate.isInitialized(game.getTournament())));
+    }
 }
@@ -0,0 +1,77 @@
+package com.tabletennis.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the Liquibase changelog against PostgreSQL and checks the hot lookups are planned on the expected indexes.
+ * Sequential scans are disabled so the planner picks an index even on the small seed data set.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresIndexUsageIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET enable_seqscan = off");
+    }
+
+    @Test
+    void gamesForTournament_ShouldUseTournamentOrderIndex() {
+        var plan = explain("SELECT * FROM games WHERE tournament_id = 1 ORDER BY game_order");
+
+        assertTrue(plan.contains("idx_games_tournament_order"), plan);
+    }
+
+    @Test
+    void gamesForPlayer_ShouldUsePlayerIndexes() {
+        var player1Plan = explain("SELECT * FROM games WHERE player1_id = 1");
+        var player2Plan = explain("SELECT * FROM games WHERE player2_id = 1");
+
+        assertTrue(player1Plan.contains("idx_games_player1"), player1Plan);
+        assertTrue(player2Plan.contains("idx_games_player2"), player2Plan);
+    }
+
+    @Test
+    void registrationsForTournament_ShouldUseUniqueKeyIndex() {
+        var plan = explain("SELECT * FROM tournament_registrations WHERE tournament_id = 1");
+
+        assertTrue(plan.contains("uk_registration_tournament_player"), plan);
+    }
+
+    @Test
+    void tournamentsInDateRange_ShouldUseDateIndex() {
+        var plan = explain("SELECT count(*) FROM tournaments WHERE date BETWEEN DATE '2030-01-01' AND DATE '2030-01-14'");
+
+        assertTrue(plan.contains("idx_tournaments_date"), plan);
+    }
+
+    @Test
+    void playerByEmailIgnoringCase_ShouldUseLowerEmailIndex() {
+        var plan = explain("SELECT id FROM players WHERE lower(email) = 'player@example.com' ORDER BY id LIMIT 1");
+
+        assertTrue(plan.contains("idx_players_email_lower"), plan);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -1,11 +1,17 @@
 package com.tabletennis.repository;
 
 import com.tabletennis.TestDataFactory;
+import com.tabletennis.dto.TournamentRegistrationCount;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -130,4 +136,60 @@ class TournamentRegistrationRepositoryIntegrationTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void findWithPlayerByTournamentIdIn_ShouldReturnRegistrationsForAllRequestedTournaments() {
+        // Given
+        var tournament1 = TestDataFactory.createTournament();
+        var tournament2 = TestDataFactory.createTournament();
+        var otherTournament = TestDataFactory.createTournament();
+        entityManager.persistAndFlush(tournament1);
+        entityManager.persistAndFlush(tournament2);
+        entityManager.persistAndFlush(otherTournament);
+
+        for (var tournament : List.of(tournament1, tournament2, otherTournament)) {
+            var registration = TestDataFactory.createTournamentRegistrationWithTournament(tournament);
+            entityManager.persistAndFlush(registration.getPlayer());
+            entityManager.persistAndFlush(registration);
+        }
+        entityManager.clear();
+
+        // When
+        var result = registrationRepository.findWithPlayerByTournamentIdIn(
+                List.of(tournament1.getId(), tournament2.getId()));
+
+        // Then
+        assertEquals(2, result.size());
+        assertTrue(result.stream().noneMatch(r -> r.getTournament().getId().equals(otherTournament.getId())));
+        assertTrue(result.stream().allMatch(r -> Hibernate.isInitialized(r.getPlayer())));
+        assertTrue(result.stream().allMatch(r -> Hibernate.isInitialized(r.getTournament())));
+    }
+
+    @Test
+    void countRegistrationsByTournament_ShouldGroupByTournamentId() {
+        // Given
+        var tournament1 = TestDataFactory.createTournament();
+        var tournament2 = TestDataFactory.createTournament();
+        tournament2.setName(tournament1.getName());
+        entityManager.persistAndFlush(tournament1);
+        entityManager.persistAndFlush(tournament2);
+
+        var registrations = new ArrayList<>(TestDataFactory.createTournamentRegistrationsForTournament(tournament1, 3));
+        registrations.addAll(TestDataFactory.createTournamentRegistrationsForTournament(tournament2, 1));
+        registrations.forEach(registration -> {
+            entityManager.persist(registration.getPlayer());
+            entityManager.persist(registration);
+        });
+        entityManager.flush();
+
+        // When
+        var result = registrationRepository.countRegistrationsByTournament();
+
+        // Then
+        assertEquals(2, result.size());
+        var counts = result.stream().collect(Collectors.toMap(
+                TournamentRegistrationCount::getTournamentId, TournamentRegistrationCount::getRegistrations));
+        assertEquals(3L, counts.get(tournament1.getId()));
+        assertEquals(1L, counts.get(tournament2.getId()));
+    }
 }
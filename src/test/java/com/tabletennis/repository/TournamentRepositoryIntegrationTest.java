@@ -1,13 +1,16 @@
 package com.tabletennis.repository;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import com.tabletennis.TestDataFactory;
+import com.tabletennis.entity.Tournament;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -71,4 +74,200 @@ class TournamentRepositoryIntegrationTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void aggregateDashboardTotals_ShouldCountTournamentsAndRegistrations() {
+        // Given
+        var tournament = TestDataFactory.createTournament();
+        var otherTournament = TestDataFactory.createTournament();
+        entityManager.persist(tournament);
+        entityManager.persist(otherTournament);
+
+        var registrations = TestDataFactory.createTournamentRegistrationsForTournament(tournament, 3);
+        registrations.forEach(registration -> {
+            entityManager.persist(registration.getPlayer());
+            entityManager.persist(registration);
+        });
+        entityManager.flush();
+
+        // When
+        var result = tournamentRepository.aggregateDashboardTotals();
+
+        // Then
+        assertEquals(2L, result.getTotalTournaments());
+        assertEquals(3L, result.getTotalRegistrations());
+    }
+
+    @Test
+    void aggregateDashboardTotals_WithNoData_ShouldReturnZeroes() {
+        // When
+        var result = tournamentRepository.aggregateDashboardTotals();
+
+        // Then
+        assertEquals(0L, result.getTotalTournaments());
+        assertEquals(0L, result.getTotalRegistrations());
+    }
+
+    @Test
+    void countByDateBetween_ShouldCountTournamentsInsideInclusiveWindow() {
+        // Given
+        // Tournament dates must be in the future, so use a future reference date
+        var today = LocalDate.now().plusDays(30);
+        persistTournamentOn(today);
+        persistTournamentOn(today.plusWeeks(2));
+        persistTournamentOn(today.plusWeeks(2).plusDays(1));
+        persistTournamentOn(today.minusDays(1));
+
+        // When
+        var result = tournamentRepository.countByDateBetween(today, today.plusWeeks(2));
+
+        // Then
+        assertEquals(2L, result);
+    }
+
+    @Test
+    void findByDateGreaterThanEqualOrderByDateAscTimeAsc_ShouldReturnSoonestUpcomingTournamentsUpToLimit() {
+        // Given
+        // Tournament dates must be in the future, so use a future reference date
+        var today = LocalDate.now().plusDays(30);
+        persistTournamentOn(today.minusDays(3));
+        var soonest = persistTournamentOn(today);
+        var next = persistTournamentOn(today.plusDays(2));
+        persistTournamentOn(today.plusDays(9));
+
+        // When
+        var result = tournamentRepository.findByDateGreaterThanEqualOrderByDateAscTimeAsc(today, Limit.of(2));
+
+        // Then
+        assertEquals(List.of(soonest.getId(), next.getId()), result.stream().map(Tournament::getId).toList());
+    }
+
+    @Test
+    void findByDateLessThanOrderByDateDescTimeDesc_ShouldReturnMostRecentPastTournamentsFirst() {
+        // Given
+        // Tournament dates must be in the future, so use a future reference date
+        var today = LocalDate.now().plusDays(30);
+        var older = persistTournamentOn(today.minusDays(10));
+        var recent = persistTournamentOn(today.minusDays(1));
+        persistTournamentOn(today);
+
+        // When
+        var result = tournamentRepository.findByDateLessThanOrderByDateDescTimeDesc(today, Limit.unlimited());
+
+        // Then
+        assertEquals(List.of(recent.getId(), older.getId()), result.stream().map(Tournament::getId).toList());
+    }
+
+    @Test
+    void findByDateBetweenOrderByDateAscTimeAsc_ShouldReturnTournamentsInsideWindow() {
+        // Given
+        // Tournament dates must be in the future, so use a future reference date
+        var today = LocalDate.now().plusDays(30);
+        var inside = persistTournamentOn(today.plusDays(5));
+        persistTournamentOn(today.plusDays(20));
+
+        // When
+        var result = tournamentRepository.findByDateBetweenOrderByDateAscTimeAsc(today, today.plusDays(7), Limit.unlimited());
+
+        // Then
+        assertEquals(List.of(inside.getId()), result.stream().map(Tournament::getId).toList());
+    }
+
+    private Tournament persistTournamentOn(LocalDate date) {
+        var tournament = TestDataFactory.createTournament();
+        tournament.setDate(date);
+        return entityManager.persistFlushFind(tournament);
+    }
+
+    @Test
+    void findByStatusOrderByDateAsc_ShouldReturnOnlyTournamentsWithStatusSoonestFirst() {
+        // Given
+        var later = TestDataFactory.createTournament();
+        later.setDate(LocalDate.now().plusDays(20));
+        var sooner = TestDataFactory.createTournament();
+        sooner.setDate(LocalDate.now().plusDays(3));
+        var started = TestDataFactory.createTournament();
+        started.setStatus(Tournament.TournamentStatus.STARTED);
+        entityManager.persist(later);
+        entityManager.persist(sooner);
+        entityManager.persist(started);
+        entityManager.flush();
+
+        // When
+        var result = tournamentRepository.findByStatusOrderByDateAsc(Tournament.TournamentStatus.OPEN);
+
+        // Then
+        assertEquals(List.of(sooner.getId(), later.getId()), result.stream().map(Tournament::getId).toList());
+    }
+
+    @Test
+    void incrementRegistrationCount_ShouldCountRegistrationsAndMarkFullAtCapacity() {
+        // Given
+        var tournament = TestDataFactory.createTournament();
+        tournament.setMaxEntrants(2);
+        entityManager.persistAndFlush(tournament);
+
+        // When
+        var first = tournamentRepository.incrementRegistrationCount(
+                tournament.getId(), Tournament.TournamentStatus.OPEN, Tournament.TournamentStatus.FULL);
+        var afterFirst = reload(tournament);
+        var second = tournamentRepository.incrementRegistrationCount(
+                tournament.getId(), Tournament.TournamentStatus.OPEN, Tournament.TournamentStatus.FULL);
+        var third = tournamentRepository.incrementRegistrationCount(
+                tournament.getId(), Tournament.TournamentStatus.OPEN, Tournament.TournamentStatus.FULL);
+        var afterThird = reload(tournament);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(1, afterFirst.getRegistrationCount());
+        assertEquals(Tournament.TournamentStatus.OPEN, afterFirst.getStatus());
+        assertEquals(1, second);
+        assertEquals(0, third);
+        assertEquals(2, afterThird.getRegistrationCount());
+        assertEquals(Tournament.TournamentStatus.FULL, afterThird.getStatus());
+    }
+
+    @Test
+    void updateStatus_ShouldOnlyMoveTournamentFromExpectedStatuses() {
+        // Given
+        var tournament = TestDataFactory.createTournament();
+        entityManager.persistAndFlush(tournament);
+        var startable = List.of(Tournament.TournamentStatus.OPEN, Tournament.TournamentStatus.FULL);
+
+        // When
+        var firstStart = tournamentRepository.updateStatus(tournament.getId(), startable, Tournament.TournamentStatus.STARTED);
+        var secondStart = tournamentRepository.updateStatus(tournament.getId(), startable, Tournament.TournamentStatus.STARTED);
+
+        // Then
+        assertEquals(1, firstStart);
+        assertEquals(0, secondStart);
+        assertEquals(Tournament.TournamentStatus.STARTED, reload(tournament).getStatus());
+    }
+
+    @Test
+    void refreshCapacityStatus_ShouldReopenFullTournamentWhenCapacityGrows() {
+        // Given
+        var tournament = TestDataFactory.createTournament();
+        tournament.setMaxEntrants(1);
+        entityManager.persistAndFlush(tournament);
+        tournamentRepository.incrementRegistrationCount(
+                tournament.getId(), Tournament.TournamentStatus.OPEN, Tournament.TournamentStatus.FULL);
+        var managed = reload(tournament);
+        managed.setMaxEntrants(4);
+        entityManager.persistAndFlush(managed);
+
+        // When
+        tournamentRepository.refreshCapacityStatus(
+                tournament.getId(), Tournament.TournamentStatus.OPEN, Tournament.TournamentStatus.FULL);
+
+        // Then
+        var result = reload(tournament);
+        assertEquals(1, result.getRegistrationCount());
+        assertEquals(Tournament.TournamentStatus.OPEN, result.getStatus());
+    }
+
+    private Tournament reload(Tournament tournament) {
+        entityManager.clear();
+        return entityManager.find(Tournament.class, tournament.getId());
+    }
 }
@@ -0,0 +1,65 @@
+package com.tabletennis.service;
+
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.dto.DashboardTotals;
+import com.tabletennis.dto.TournamentRegistrationCount;
+import com.tabletennis.repository.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardStatisticsServiceTest {
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private TournamentService tournamentService;
+
+    @Mock
+    private RegistrationService registrationService;
+
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardStatisticsService = new DashboardStatisticsService(tournamentRepository, tournamentService, registrationService);
+    }
+
+    @Test
+    void getStatistics_ShouldCombineAggregateQueries() {
+        // Given
+        var tournamentId1 = TestDataFactory.randomId();
+        var tournamentId2 = tournamentId1 + 1;
+        when(tournamentRepository.aggregateDashboardTotals()).thenReturn(new DashboardTotals(5L, 12L));
+        when(tournamentService.countActiveTournaments()).thenReturn(2L);
+        var registrationCounts = Map.of(
+                tournamentId1, new TournamentRegistrationCount(tournamentId1, "Summer Open", 8L),
+                tournamentId2, new TournamentRegistrationCount(tournamentId2, "Summer Open", 4L)
+        );
+        when(registrationService.getRegistrationCountsByTournamentId()).thenReturn(registrationCounts);
+
+        // When
+        var result = dashboardStatisticsService.getStatistics();
+
+        // Then
+        assertEquals(5L, result.getTotalTournaments());
+        assertEquals(12L, result.getTotalRegistrations());
+        assertEquals(2L, result.getActiveTournaments());
+        assertEquals(registrationCounts, result.getRegistrationCounts());
+        verify(tournamentRepository).aggregateDashboardTotals();
+        verify(tournamentService).countActiveTournaments();
+        verify(registrationService).getRegistrationCountsByTournamentId();
+        verifyNoMoreInteractions(tournamentRepository, tournamentService, registrationService);
+    }
+}
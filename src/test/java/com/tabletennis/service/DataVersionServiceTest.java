@@ -0,0 +1,75 @@
+package com.tabletennis.service;
+
+import com.tabletennis.event.RegistrationChangedEvent;
+import com.tabletennis.event.TournamentChangedEvent;
+import com.tabletennis.service.DataVersionService.Aggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataVersionServiceTest {
+
+    private DataVersionService dataVersionService;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionService = new DataVersionService();
+    }
+
+    @Test
+    void etag_ShouldBeStrongAndStableWithoutWrites() {
+        // When
+        var first = dataVersionService.etag(Aggregate.TOURNAMENTS, Aggregate.REGISTRATIONS);
+        var second = dataVersionService.etag(Aggregate.TOURNAMENTS, Aggregate.REGISTRATIONS);
+
+        // Then
+        assertEquals(first, second);
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertFalse(first.startsWith("W/"));
+    }
+
+    @Test
+    void onRegistrationChanged_ShouldOnlyChangeETagsCoveringRegistrations() {
+        // Given
+        var tournamentsEtag = dataVersionService.etag(Aggregate.TOURNAMENTS);
+        var registrationsEtag = dataVersionService.etag(Aggregate.TOURNAMENTS, Aggregate.REGISTRATIONS);
+
+        // When
+        dataVersionService.onRegistrationChanged(new RegistrationChangedEvent(1L));
+
+        // Then
+        assertEquals(tournamentsEtag, dataVersionService.etag(Aggregate.TOURNAMENTS));
+        assertNotEquals(registrationsEtag, dataVersionService.etag(Aggregate.TOURNAMENTS, Aggregate.REGISTRATIONS));
+    }
+
+    @Test
+    void writesWithinTheSameSecond_ShouldStillChangeETag() {
+        // Given
+        dataVersionService.onTournamentChanged(new TournamentChangedEvent(1L));
+        var etag = dataVersionService.etag(Aggregate.TOURNAMENTS);
+
+        // When
+        dataVersionService.onTournamentChanged(new TournamentChangedEvent(1L));
+
+        // Then
+        assertNotEquals(etag, dataVersionService.etag(Aggregate.TOURNAMENTS));
+    }
+
+    @Test
+    void lastModified_ShouldHaveSecondPrecisionAndNotGoBackwards() {
+        // Given
+        var startedAt = dataVersionService.lastModified(Aggregate.TOURNAMENTS);
+
+        // When
+        dataVersionService.onTournamentChanged(new TournamentChangedEvent(1L));
+        var modifiedAt = dataVersionService.lastModified(Aggregate.TOURNAMENTS, Aggregate.GAMES);
+
+        // Then
+        assertEquals(0, modifiedAt.getNano());
+        assertFalse(modifiedAt.isBefore(startedAt));
+    }
+}
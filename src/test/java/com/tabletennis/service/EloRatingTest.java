@@ -0,0 +1,61 @@
+package com.tabletennis.service;
+
+import com.tabletennis.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EloRatingTest {
+
+    @Test
+    void score_ShouldScoreWinsDrawsAndLosses() {
+        assertEquals(1, EloRating.score(11, 7));
+        assertEquals(0.5, EloRating.score(10, 10));
+        assertEquals(0, EloRating.score(5, 11));
+    }
+
+    @Test
+    void expectedScore_ShouldGiveTheHigherRatedPlayerTheBetterChance() {
+        assertEquals(0.5, EloRating.expectedScore(1500, 1500), 1e-9);
+        assertEquals(0.909, EloRating.expectedScore(1900, 1500), 1e-3);
+        assertEquals(1, EloRating.expectedScore(1900, 1500) + EloRating.expectedScore(1500, 1900), 1e-9);
+    }
+
+    @Test
+    void change_ShouldMoveProvisionalRatingsFaster() {
+        // When
+        var provisional = EloRating.change(1500, 0, 1500, 1);
+        var established = EloRating.change(1500, EloRating.PROVISIONAL_GAMES, 1500, 1);
+
+        // Then
+        assertEquals(EloRating.PROVISIONAL_K_FACTOR / 2, provisional, 1e-9);
+        assertEquals(EloRating.K_FACTOR / 2, established, 1e-9);
+    }
+
+    @Test
+    void replay_ShouldApplyGamesInOrderAndRecordEachChange() {
+        // Given
+        var player1Ids = new int[] {1, 2, 1};
+        var player2Ids = new int[] {2, 3, 3};
+        var player1Scores = new double[] {1, 0.5, 0};
+
+        // When
+        var replay = EloRating.replay(4, player1Ids, player2Ids, player1Scores);
+
+        // Then
+        assertEquals(Player.INITIAL_RATING, replay.ratings()[0]);
+        assertArrayEquals(new int[] {0, 2, 2, 2}, replay.ratedGames());
+        assertEquals(Player.INITIAL_RATING + 16, replay.player1After()[0], 1e-9);
+        assertEquals(Player.INITIAL_RATING - 16, replay.player2After()[0], 1e-9);
+        assertEquals(replay.player1After()[0], replay.player1Before()[2]);
+        assertEquals(replay.player2After()[1], replay.player2Before()[2]);
+        for (var game = 0; game < player1Ids.length; game++) {
+            var gained = replay.player1After()[game] - replay.player1Before()[game];
+            var lost = replay.player2Before()[game] - replay.player2After()[game];
+            assertEquals(gained, lost, 1e-9, "Both players have the same K factor while provisional");
+        }
+        assertTrue(replay.ratings()[3] > replay.ratings()[1]);
+    }
+}
@@ -1,16 +1,24 @@
 package com.tabletennis.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.tabletennis.TestDataFactory;
 import com.tabletennis.dto.GameDto;
 import com.tabletennis.entity.Game;
 import com.tabletennis.entity.Tournament;
 import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.entity.Tournament.TournamentStatus;
+import com.tabletennis.event.GameResultRecordedEvent;
+import com.tabletennis.event.GamesChangedEvent;
+import com.tabletennis.event.TournamentChangedEvent;
 import com.tabletennis.mapping.GameMapper;
-import com.tabletennis.mapping.TournamentMapper;
 import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.TournamentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -37,6 +46,9 @@ class GameServiceTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private TournamentRepository tournamentRepository;
+
     @Mock
     private RegistrationService registrationService;
 
@@ -44,7 +56,7 @@ class GameServiceTest {
     private GameMapper gameMapper;
 
     @Mock
-    private TournamentMapper tournamentMapper;
+    private ApplicationEventPublisher eventPublisher;
 
     @Captor
     private ArgumentCaptor<List<Game>> gamesCaptor;
@@ -56,28 +68,33 @@ class GameServiceTest {
 
     @BeforeEach
     void setUp() {
-        gameService = new GameService(gameRepository, registrationService, gameMapper, tournamentMapper);
+        gameService = new GameService(
+                gameRepository, tournamentRepository, registrationService, gameMapper, eventPublisher);
 
         // Create test data using TestDataFactory
         tournament = TestDataFactory.createTournament();
+        tournament.setId(TestDataFactory.randomId());
         registrations = TestDataFactory.createTournamentRegistrationsForTournament(tournament, 4);
     }
 
     @Test
     void startTournament_WithValidTournament_ShouldCreateGames() {
         // Given
-        when(gameRepository.existsByTournament(tournament)).thenReturn(false);
         when(registrationService.findByTournament(tournament)).thenReturn(registrations);
+        when(tournamentRepository.updateStatus(tournament.getId(),
+                List.of(TournamentStatus.OPEN, TournamentStatus.FULL), TournamentStatus.STARTED)).thenReturn(1);
         when(gameRepository.saveAll(anyList())).thenReturn(List.of(new Game(), new Game()));
         when(gameMapper.convertToDto(any(Game.class))).thenReturn(new GameDto());
 
         // When
-        List<GameDto> result = gameService.startTournament(tournament);
+        List<GameDto> result = gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0);
 
         // Then
         assertNotNull(result);
-        verify(gameRepository).existsByTournament(tournament);
+        assertEquals(TournamentStatus.STARTED, tournament.getStatus());
         verify(registrationService).findByTournament(tournament);
+        verify(eventPublisher).publishEvent(new TournamentChangedEvent(tournament.getId()));
+        verify(eventPublisher).publishEvent(new GamesChangedEvent(tournament.getId()));
 
         // Verify saveAll was called with a list of 6 games
         verify(gameRepository).saveAll(gamesCaptor.capture());
@@ -85,88 +102,155 @@ class GameServiceTest {
         assertEquals(6, savedGames.size());
     }
 
+    @Test
+    void startTournament_ShouldScheduleGamesInRoundsPlayableAtTheSameTime() {
+        // Given
+        when(registrationService.findByTournament(tournament)).thenReturn(registrations);
+        when(tournamentRepository.updateStatus(tournament.getId(),
+                List.of(TournamentStatus.OPEN, TournamentStatus.FULL), TournamentStatus.STARTED)).thenReturn(1);
+
+        // When
+        gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0);
+
+        // Then
+        verify(gameRepository).saveAll(gamesCaptor.capture());
+        var savedGames = gamesCaptor.getValue();
+        assertEquals(List.of(1, 1, 2, 2, 3, 3), savedGames.stream().map(Game::getRoundNumber).toList());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), savedGames.stream().map(Game::getGameOrder).toList());
+        var firstRound = savedGames.subList(0, 2);
+        assertEquals(4, firstRound.stream()
+                .flatMap(game -> Stream.of(game.getPlayer1(), game.getPlayer2()))
+                .distinct()
+                .count());
+    }
+
+    @Test
+    void startTournament_WithSeveralTables_ShouldAllocateTablesAndStartTimes() {
+        // Given
+        when(registrationService.findByTournament(tournament)).thenReturn(registrations);
+        when(tournamentRepository.updateStatus(tournament.getId(),
+                List.of(TournamentStatus.OPEN, TournamentStatus.FULL), TournamentStatus.STARTED)).thenReturn(1);
+        var startsAt = LocalDateTime.of(tournament.getDate(), tournament.getTime());
+
+        // When
+        gameService.startTournament(tournament, 2, Duration.ofMinutes(15), 0);
+
+        // Then
+        verify(gameRepository).saveAll(gamesCaptor.capture());
+        var savedGames = gamesCaptor.getValue();
+        assertEquals(List.of(1, 2, 1, 2, 1, 2), savedGames.stream().map(Game::getTableNumber).toList());
+        assertEquals(List.of(1, 1, 2, 2, 3, 3), savedGames.stream().map(Game::getStartSlot).toList());
+        assertEquals(startsAt, savedGames.getFirst().getScheduledStart());
+        assertEquals(startsAt.plusMinutes(30), savedGames.getLast().getScheduledStart());
+        verify(tournamentRepository).updateScheduleSettings(tournament.getId(), 2, 900, 0);
+    }
+
+    @Test
+    void startTournament_WithNoTables_ShouldThrowExceptionWithoutStarting() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> gameService.startTournament(tournament, 0, Duration.ofMinutes(15), 0));
+        verify(tournamentRepository, never()).updateStatus(any(), any(), any());
+        verify(gameRepository, never()).saveAll(any());
+    }
+
     @Test
     void startTournament_WhenTournamentAlreadyStarted_ShouldThrowException() {
         // Given
-        when(gameRepository.existsByTournament(tournament)).thenReturn(true);
+        tournament.setStatus(TournamentStatus.STARTED);
 
         // When & Then
-        assertThrows(IllegalStateException.class, () -> gameService.startTournament(tournament));
-        verify(gameRepository).existsByTournament(tournament);
+        assertThrows(IllegalStateException.class, () -> gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0));
         verify(registrationService, never()).findByTournament(tournament);
         verify(gameRepository, never()).saveAll(any());
     }
 
+    @Test
+    void startTournament_WhenStartedConcurrently_ShouldThrowException() {
+        // Given
+        when(registrationService.findByTournament(tournament)).thenReturn(registrations);
+        when(tournamentRepository.updateStatus(tournament.getId(),
+                List.of(TournamentStatus.OPEN, TournamentStatus.FULL), TournamentStatus.STARTED)).thenReturn(0);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0));
+        verify(gameRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void startTournament_WithInsufficientPlayers_ShouldThrowException() {
         // Given
         List<TournamentRegistration> singleRegistration = List.of(registrations.getFirst());
-        when(gameRepository.existsByTournament(tournament)).thenReturn(false);
         when(registrationService.findByTournament(tournament)).thenReturn(singleRegistration);
 
         // When & Then
-        assertThrows(IllegalStateException.class, () -> gameService.startTournament(tournament));
-        verify(gameRepository).existsByTournament(tournament);
+        assertThrows(IllegalStateException.class, () -> gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0));
         verify(registrationService).findByTournament(tournament);
+        verify(tournamentRepository, never()).updateStatus(any(), any(), any());
         verify(gameRepository, never()).saveAll(any());
     }
 
     @Test
-    void isTournamentStarted_WhenGamesExist_ShouldReturnTrue() {
+    void startTournament_WithSingleElimination_ShouldSeedByRatingAndOnlyCreateFirstRound() {
         // Given
-        when(gameRepository.existsByTournament(tournament)).thenReturn(true);
+        tournament.setFormat(Tournament.Format.SINGLE_ELIMINATION);
+        var entrants = TestDataFactory.createTournamentRegistrationsForTournament(tournament, 5);
+        var ratings = List.of(1400.0, 1600.0, 1500.0, 1450.0, 1550.0);
+        IntStream.range(0, 5).forEach(i -> entrants.get(i).getPlayer().setRating(ratings.get(i)));
+        when(registrationService.findByTournament(tournament)).thenReturn(entrants);
+        when(tournamentRepository.updateStatus(tournament.getId(),
+                List.of(TournamentStatus.OPEN, TournamentStatus.FULL), TournamentStatus.STARTED)).thenReturn(1);
 
         // When
-        boolean result = gameService.isTournamentStarted(tournament);
+        gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0);
 
         // Then
-        assertTrue(result);
-        verify(gameRepository).existsByTournament(tournament);
+        assertEquals(List.of(5, 1, 3, 4, 2), entrants.stream().map(TournamentRegistration::getSeed).toList());
+        verify(gameRepository).saveAll(gamesCaptor.capture());
+        var savedGames = gamesCaptor.getValue();
+        assertEquals(1, savedGames.size(), "The top three seeds get byes, so only seeds 4 and 5 play");
+        var game = savedGames.getFirst();
+        assertEquals(Game.Stage.KNOCKOUT, game.getStage());
+        assertEquals(1, game.getRoundNumber());
+        assertEquals(entrants.get(3).getPlayer(), game.getPlayer1());
+        assertEquals(entrants.get(0).getPlayer(), game.getPlayer2());
     }
 
     @Test
-    void isTournamentStarted_WhenNoGames_ShouldReturnFalse() {
+    void isTournamentStarted_WhenStatusIsStarted_ShouldReturnTrue() {
         // Given
-        when(gameRepository.existsByTournament(tournament)).thenReturn(false);
+        tournament.setStatus(TournamentStatus.STARTED);
 
         // When
         boolean result = gameService.isTournamentStarted(tournament);
 
         // Then
-        assertFalse(result);
-        verify(gameRepository).existsByTournament(tournament);
+        assertTrue(result);
+        verify(gameRepository, never()).existsByTournament(any());
     }
 
     @Test
-    void isTournamentStarted_WithTournamentDto_WhenGamesExist_ShouldReturnTrue() {
+    void isTournamentStarted_WhenStatusIsCompleted_ShouldReturnTrue() {
         // Given
-        var tournamentDto = TestDataFactory.createTournamentDtoFromTournament(tournament);
-        when(tournamentMapper.convertToEntity(tournamentDto)).thenReturn(tournament);
-        when(gameRepository.existsByTournament(tournament)).thenReturn(true);
-
-        // When
-        boolean result = gameService.isTournamentStarted(tournamentDto);
+        tournament.setStatus(TournamentStatus.COMPLETED);
 
-        // Then
-        assertTrue(result);
-        verify(tournamentMapper).convertToEntity(tournamentDto);
-        verify(gameRepository).existsByTournament(tournament);
+        // When & Then
+        assertTrue(gameService.isTournamentStarted(tournament));
     }
 
     @Test
-    void isTournamentStarted_WithTournamentDto_WhenNoGames_ShouldReturnFalse() {
+    void isTournamentStarted_WhenStatusIsOpenOrFull_ShouldReturnFalse() {
         // Given
-        var tournamentDto = TestDataFactory.createTournamentDtoFromTournament(tournament);
-        when(tournamentMapper.convertToEntity(tournamentDto)).thenReturn(tournament);
-        when(gameRepository.existsByTournament(tournament)).thenReturn(false);
-
-        // When
-        boolean result = gameService.isTournamentStarted(tournamentDto);
+        tournament.setStatus(TournamentStatus.OPEN);
+        var openResult = gameService.isTournamentStarted(tournament);
+        tournament.setStatus(TournamentStatus.FULL);
+        var fullResult = gameService.isTournamentStarted(tournament);
 
         // Then
-        assertFalse(result);
-        verify(tournamentMapper).convertToEntity(tournamentDto);
-        verify(gameRepository).existsByTournament(tournament);
+        assertFalse(openResult);
+        assertFalse(fullResult);
+        verify(gameRepository, never()).existsByTournament(any());
     }
 
     @Test
@@ -179,7 +263,7 @@ class GameServiceTest {
                 TestDataFactory.createGameDto()
         );
 
-        when(gameRepository.findByTournamentOrderByGameOrderAsc(tournament)).thenReturn(games);
+        when(gameRepository.findScheduleByTournament(tournament)).thenReturn(games);
         when(gameMapper.convertToDto(any(Game.class))).thenReturn(gameDtos.getFirst(), gameDtos.get(1), gameDtos.get(2));
 
         // When
@@ -188,7 +272,7 @@ class GameServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(3, result.size());
-        verify(gameRepository).findByTournamentOrderByGameOrderAsc(tournament);
+        verify(gameRepository).findScheduleByTournament(tournament);
         verify(gameMapper, times(3)).convertToDto(any(Game.class));
     }
 
@@ -200,6 +284,7 @@ class GameServiceTest {
         var player2Score = TestDataFactory.randomScore();
 
         var game = TestDataFactory.createGame();
+        game.setPlayedAt(null);
         var gameDto = TestDataFactory.createGameDto();
 
         when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
@@ -220,6 +305,91 @@ class GameServiceTest {
         verify(gameMapper).convertToDto(game);
     }
 
+    @Test
+    void updateGameScore_CorrectingResult_ShouldKeepWhenTheGameWasFirstPlayed() {
+        // Given
+        var gameId = TestDataFactory.randomId();
+        var firstPlayedAt = LocalDateTime.of(2025, 3, 1, 12, 30);
+        var game = TestDataFactory.createGame();
+        game.setStatus(Game.GameStatus.COMPLETED);
+        game.setPlayedAt(firstPlayedAt);
+
+        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
+        when(gameRepository.save(any(Game.class))).thenReturn(game);
+
+        // When
+        gameService.updateGameScore(gameId, 11, 9);
+
+        // Then
+        assertEquals(firstPlayedAt, game.getPlayedAt());
+    }
+
+    @Test
+    void updateGameScore_WhenLastGameIsPlayed_ShouldCompleteTournament() {
+        // Given
+        var gameId = TestDataFactory.randomId();
+        var game = TestDataFactory.createGame();
+        game.getTournament().setId(TestDataFactory.randomId());
+        game.getTournament().setStatus(TournamentStatus.STARTED);
+        var unplayedStatuses = List.of(Game.GameStatus.SCHEDULED, Game.GameStatus.IN_PROGRESS);
+
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        when(gameRepository.save(game)).thenReturn(game);
+        when(gameRepository.existsByTournamentAndStatusIn(game.getTournament(), unplayedStatuses)).thenReturn(false);
+        when(tournamentRepository.updateStatus(game.getTournament().getId(),
+                List.of(TournamentStatus.STARTED), TournamentStatus.COMPLETED)).thenReturn(1);
+
+        // When
+        gameService.updateGameScore(gameId, 11, 5);
+
+        // Then
+        assertEquals(TournamentStatus.COMPLETED, game.getTournament().getStatus());
+        verify(eventPublisher).publishEvent(new TournamentChangedEvent(game.getTournament().getId()));
+    }
+
+    @Test
+    void updateGameScore_WhenGamesRemain_ShouldNotCompleteTournament() {
+        // Given
+        var gameId = TestDataFactory.randomId();
+        var game = TestDataFactory.createGame();
+        game.getTournament().setStatus(TournamentStatus.STARTED);
+
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        when(gameRepository.save(game)).thenReturn(game);
+        when(gameRepository.existsByTournamentAndStatusIn(any(), anyList())).thenReturn(true);
+
+        // When
+        gameService.updateGameScore(gameId, 11, 5);
+
+        // Then
+        assertEquals(TournamentStatus.STARTED, game.getTournament().getStatus());
+        verify(tournamentRepository, never()).updateStatus(any(), any(), any());
+        verify(eventPublisher).publishEvent(new GamesChangedEvent(game.getTournament().getId()));
+        verify(eventPublisher, never()).publishEvent(any(TournamentChangedEvent.class));
+    }
+
+    @Test
+    void updateGameScore_ShouldPublishRecordedResultForStandings() {
+        // Given
+        var gameId = TestDataFactory.randomId();
+        var game = TestDataFactory.createGame();
+        game.setId(gameId);
+        game.getTournament().setId(TestDataFactory.randomId());
+        game.getPlayer1().setId(TestDataFactory.randomId());
+        game.getPlayer2().setId(game.getPlayer1().getId() + 1);
+
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        when(gameRepository.save(game)).thenReturn(game);
+        when(gameRepository.existsByTournamentAndStatusIn(any(), anyList())).thenReturn(true);
+
+        // When
+        gameService.updateGameScore(gameId, 11, 8);
+
+        // Then
+        verify(eventPublisher).publishEvent(new GameResultRecordedEvent(game.getTournament().getId(), gameId,
+                game.getPlayer1().getId(), game.getPlayer2().getId(), 11, 8));
+    }
+
     @Test
     void updateGameScore_WithNonExistentGame_ShouldThrowException() {
         // Given
@@ -235,4 +405,117 @@ class GameServiceTest {
         verify(gameRepository, never()).save(any(Game.class));
         verify(gameMapper, never()).convertToDto(any(Game.class));
     }
+
+    @Test
+    void updateGameScore_InKnockout_ShouldCreateFinalOnceBothSemiFinalsArePlayed() {
+        // Given
+        var entrants = knockoutEntrants();
+        var semiFinal1 = knockoutGame(1, 0, entrants.get(0), entrants.get(3), 11, 4);
+        var semiFinal2 = knockoutGame(1, 1, entrants.get(1), entrants.get(2), null, null);
+        when(gameRepository.findById(semiFinal2.getId())).thenReturn(Optional.of(semiFinal2));
+        when(gameRepository.save(semiFinal2)).thenReturn(semiFinal2);
+        when(registrationService.findByTournament(tournament)).thenReturn(entrants);
+        when(gameRepository.findScheduleByTournament(tournament)).thenReturn(List.of(semiFinal1, semiFinal2));
+        when(gameRepository.existsByTournamentAndStatusIn(any(), anyList())).thenReturn(true);
+
+        // When
+        gameService.updateGameScore(semiFinal2.getId(), 9, 11);
+
+        // Then
+        verify(tournamentRepository).lockById(tournament.getId());
+        verify(gameRepository).saveAll(gamesCaptor.capture());
+        var created = gamesCaptor.getValue();
+        assertEquals(1, created.size());
+        var finalGame = created.getFirst();
+        assertEquals(2, finalGame.getRoundNumber());
+        assertEquals(0, finalGame.getBracketPosition());
+        assertEquals(3, finalGame.getGameOrder());
+        assertEquals(entrants.get(0).getPlayer(), finalGame.getPlayer1());
+        assertEquals(entrants.get(2).getPlayer(), finalGame.getPlayer2());
+    }
+
+    @Test
+    void updateGameScore_InKnockout_ShouldAllocateFinalAfterSemiFinalsWithRest() {
+        // Given
+        var entrants = knockoutEntrants();
+        tournament.setTableCount(2);
+        tournament.setSlotSeconds(1200);
+        tournament.setRestSlots(1);
+        var semiFinal1 = knockoutGame(1, 0, entrants.get(0), entrants.get(3), 11, 4);
+        var semiFinal2 = knockoutGame(1, 1, entrants.get(1), entrants.get(2), null, null);
+        semiFinal1.setTableNumber(1);
+        semiFinal1.setStartSlot(1);
+        semiFinal2.setTableNumber(2);
+        semiFinal2.setStartSlot(1);
+        when(gameRepository.findById(semiFinal2.getId())).thenReturn(Optional.of(semiFinal2));
+        when(gameRepository.save(semiFinal2)).thenReturn(semiFinal2);
+        when(registrationService.findByTournament(tournament)).thenReturn(entrants);
+        when(gameRepository.findScheduleByTournament(tournament)).thenReturn(List.of(semiFinal1, semiFinal2));
+        when(gameRepository.existsByTournamentAndStatusIn(any(), anyList())).thenReturn(true);
+        var startsAt = LocalDateTime.of(tournament.getDate(), tournament.getTime());
+
+        // When
+        gameService.updateGameScore(semiFinal2.getId(), 9, 11);
+
+        // Then
+        verify(gameRepository).saveAll(gamesCaptor.capture());
+        var finalGame = gamesCaptor.getValue().getFirst();
+        assertEquals(3, finalGame.getGameOrder());
+        assertEquals(1, finalGame.getTableNumber());
+        assertEquals(3, finalGame.getStartSlot());
+        assertEquals(startsAt.plusMinutes(40), finalGame.getScheduledStart());
+    }
+
+    @Test
+    void updateGameScore_InKnockout_WithDraw_ShouldThrowException() {
+        // Given
+        var entrants = knockoutEntrants();
+        var game = knockoutGame(1, 0, entrants.get(0), entrants.get(3), null, null);
+        when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> gameService.updateGameScore(game.getId(), 10, 10));
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
+    @Test
+    void updateGameScore_CorrectingResultAfterNextRoundIsPlayed_ShouldThrowException() {
+        // Given
+        var entrants = knockoutEntrants();
+        var semiFinal1 = knockoutGame(1, 0, entrants.get(0), entrants.get(3), 11, 4);
+        var semiFinal2 = knockoutGame(1, 1, entrants.get(1), entrants.get(2), 11, 7);
+        var finalGame = knockoutGame(2, 0, entrants.get(0), entrants.get(1), 11, 8);
+        when(gameRepository.findById(semiFinal1.getId())).thenReturn(Optional.of(semiFinal1));
+        when(gameRepository.save(semiFinal1)).thenReturn(semiFinal1);
+        when(registrationService.findByTournament(tournament)).thenReturn(entrants);
+        when(gameRepository.findScheduleByTournament(tournament))
+                .thenReturn(List.of(semiFinal1, semiFinal2, finalGame));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> gameService.updateGameScore(semiFinal1.getId(), 4, 11));
+        verify(gameRepository, never()).saveAll(any());
+    }
+
+    private List<TournamentRegistration> knockoutEntrants() {
+        tournament.setFormat(Tournament.Format.SINGLE_ELIMINATION);
+        tournament.setStatus(TournamentStatus.STARTED);
+        IntStream.range(0, registrations.size()).forEach(seed -> {
+            registrations.get(seed).setSeed(seed + 1);
+            registrations.get(seed).getPlayer().setId(TestDataFactory.randomId());
+        });
+        return registrations;
+    }
+
+    private Game knockoutGame(int round, int position, TournamentRegistration entrant1,
+            TournamentRegistration entrant2, Integer player1Score, Integer player2Score) {
+        var game = new Game(tournament, entrant1.getPlayer(), entrant2.getPlayer(), round * 2 - 1 + position,
+                Game.Stage.KNOCKOUT, round, position);
+        game.setId(TestDataFactory.randomId());
+        if (player1Score != null) {
+            game.setPlayer1Score(player1Score);
+            game.setPlayer2Score(player2Score);
+            game.setStatus(Game.GameStatus.COMPLETED);
+        }
+        return game;
+    }
 }
@@ -1,6 +1,7 @@
 package com.tabletennis.service;
 
 import com.tabletennis.TestDataFactory;
+import com.tabletennis.config.CacheConfig;
 import com.tabletennis.entity.Player;
 import com.tabletennis.repository.PlayerRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,14 +9,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,10 +36,11 @@ class PlayerServiceTest {
 
     @BeforeEach
     void setUp() {
-        playerService = new PlayerService(playerRepository);
+        playerService = new PlayerService(playerRepository, new ConcurrentMapCacheManager(CacheConfig.PLAYER_IDS));
 
         // Create test data using TestDataFactory
         player = TestDataFactory.createPlayer();
+        player.setId(TestDataFactory.randomId());
     }
 
     @Test
@@ -85,14 +92,68 @@ class PlayerServiceTest {
         var surname = player.getSurname();
         var email = player.getEmail();
 
-        when(playerRepository.findByEmail(email)).thenReturn(Optional.of(player));
+        when(playerRepository.findIdByNormalizedEmail(email.toLowerCase())).thenReturn(Optional.of(player.getId()));
+        when(playerRepository.getReferenceById(player.getId())).thenReturn(player);
 
         // When
         var result = playerService.findOrCreatePlayer(firstName, surname, email);
 
         // Then
         assertEquals(player, result);
-        verify(playerRepository).findByEmail(email);
+        verify(playerRepository).findIdByNormalizedEmail(email.toLowerCase());
+        verify(playerRepository, never()).save(any(Player.class));
+    }
+
+    @Test
+    void findOrCreatePlayer_WhenPlayerReturns_ShouldResolveFromCacheWithoutQuery() {
+        // Given
+        var email = "Repeat.Player@Example.com";
+        when(playerRepository.findIdByNormalizedEmail("repeat.player@example.com")).thenReturn(Optional.of(player.getId()));
+        when(playerRepository.getReferenceById(player.getId())).thenReturn(player);
+        playerService.findOrCreatePlayer(player.getFirstName(), player.getSurname(), email);
+
+        // When
+        var result = playerService.findOrCreatePlayer(player.getFirstName(), player.getSurname(), " repeat.player@EXAMPLE.com ");
+
+        // Then
+        assertEquals(player, result);
+        verify(playerRepository, times(1)).findIdByNormalizedEmail(anyString());
+        verify(playerRepository, times(2)).getReferenceById(player.getId());
+    }
+
+    @Test
+    void findOrCreatePlayer_WhenPlayerIsCreated_ShouldCacheNewPlayerId() {
+        // Given
+        var email = TestDataFactory.randomEmail();
+        when(playerRepository.findIdByNormalizedEmail(email.toLowerCase())).thenReturn(Optional.empty());
+        when(playerRepository.save(any(Player.class))).thenReturn(player);
+        when(playerRepository.getReferenceById(player.getId())).thenReturn(player);
+        playerService.findOrCreatePlayer(player.getFirstName(), player.getSurname(), email);
+
+        // When
+        var result = playerService.findOrCreatePlayer(player.getFirstName(), player.getSurname(), email);
+
+        // Then
+        assertEquals(player, result);
+        verify(playerRepository, times(1)).findIdByNormalizedEmail(anyString());
+        verify(playerRepository, times(1)).save(any(Player.class));
+    }
+
+    @Test
+    void findOrCreatePlayer_WhenLookupMisses_ShouldNotCacheMiss() {
+        // Given
+        var email = TestDataFactory.randomEmail();
+        when(playerRepository.findIdByNormalizedEmail(email.toLowerCase())).thenReturn(Optional.empty());
+        when(playerRepository.save(any(Player.class))).thenThrow(new IllegalStateException("Insert failed"));
+
+        // When
+        assertThrows(IllegalStateException.class,
+                () -> playerService.findOrCreatePlayer(player.getFirstName(), player.getSurname(), email));
+        assertThrows(IllegalStateException.class,
+                () -> playerService.findOrCreatePlayer(player.getFirstName(), player.getSurname(), email));
+
+        // Then
+        verify(playerRepository, times(2)).findIdByNormalizedEmail(email.toLowerCase());
     }
 
     @Test
@@ -107,7 +168,7 @@ class PlayerServiceTest {
         newPlayer.setSurname(surname);
         newPlayer.setEmail(email);
 
-        when(playerRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(playerRepository.findIdByNormalizedEmail(email.toLowerCase())).thenReturn(Optional.empty());
         when(playerRepository.save(any(Player.class))).thenReturn(newPlayer);
 
         // When
@@ -118,7 +179,7 @@ class PlayerServiceTest {
         assertEquals(firstName, result.getFirstName());
         assertEquals(surname, result.getSurname());
         assertEquals(email, result.getEmail());
-        verify(playerRepository).findByEmail(email);
+        verify(playerRepository).findIdByNormalizedEmail(email.toLowerCase());
         verify(playerRepository).save(any(Player.class));
     }
 }
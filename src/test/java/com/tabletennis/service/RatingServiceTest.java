@@ -0,0 +1,191 @@
+package com.tabletennis.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.dto.GameResult;
+import com.tabletennis.entity.Game;
+import com.tabletennis.entity.Player;
+import com.tabletennis.entity.PlayerRatingHistory;
+import com.tabletennis.event.GameResultRecordedEvent;
+import com.tabletennis.event.RatingsChangedEvent;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRatingHistoryRepository;
+import com.tabletennis.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RatingServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PlayerRatingHistoryRepository ratingHistoryRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RatingService ratingService;
+
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    void setUp() {
+        player1 = TestDataFactory.createPlayer();
+        player1.setId(1L);
+        player2 = TestDataFactory.createPlayer();
+        player2.setId(2L);
+    }
+
+    @Test
+    void onGameResultRecorded_ShouldMoveBothRatingsAndRecordHistory() {
+        // Given
+        when(playerRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(player1, player2));
+        when(ratingHistoryRepository.findByGameId(10L)).thenReturn(List.of());
+
+        // When
+        ratingService.onGameResultRecorded(new GameResultRecordedEvent(5L, 10L, 1L, 2L, 11, 4));
+
+        // Then
+        assertEquals(Player.INITIAL_RATING + 16, player1.getRating(), 1e-9);
+        assertEquals(Player.INITIAL_RATING - 16, player2.getRating(), 1e-9);
+        assertEquals(1, player1.getRatedGames());
+        assertEquals(1, player2.getRatedGames());
+        verify(ratingHistoryRepository).saveAll(anyList());
+        verify(eventPublisher).publishEvent(new RatingsChangedEvent());
+    }
+
+    @Test
+    void onGameResultRecorded_WithCorrectedResult_ShouldReplaceThePreviousChange() {
+        // Given
+        player1.setRating(Player.INITIAL_RATING + 16);
+        player1.setRatedGames(1);
+        player2.setRating(Player.INITIAL_RATING - 16);
+        player2.setRatedGames(1);
+        var game = new Game();
+        var initial = Player.INITIAL_RATING;
+        var recordedAt = LocalDateTime.now();
+        var previous = List.of(
+                new PlayerRatingHistory(player1, game, initial, initial + 16, recordedAt),
+                new PlayerRatingHistory(player2, game, initial, initial - 16, recordedAt));
+        when(playerRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(player1, player2));
+        when(ratingHistoryRepository.findByGameId(10L)).thenReturn(previous);
+
+        // When
+        ratingService.onGameResultRecorded(new GameResultRecordedEvent(5L, 10L, 1L, 2L, 4, 11));
+
+        // Then
+        assertEquals(Player.INITIAL_RATING - 16, player1.getRating(), 1e-9);
+        assertEquals(Player.INITIAL_RATING + 16, player2.getRating(), 1e-9);
+        assertEquals(1, player1.getRatedGames());
+        verify(ratingHistoryRepository).deleteAll(previous);
+    }
+
+    @Test
+    void recomputeAll_ShouldReplayCompletedGamesAndRewriteHistory() {
+        // Given
+        var playedAt = LocalDateTime.now();
+        when(playerRepository.findAllForUpdate()).thenReturn(List.of(player1, player2));
+        when(gameRepository.countByStatus(Game.GameStatus.COMPLETED)).thenReturn(2L);
+        when(gameRepository.streamResultsInPlayingOrder(Game.GameStatus.COMPLETED)).thenReturn(Stream.of(
+                new GameResult(10L, 1L, 2L, 11, 4, playedAt),
+                new GameResult(11L, 2L, 1L, 11, 9, playedAt.plusMinutes(20))));
+
+        // When
+        var replayed = ratingService.recomputeAll();
+
+        // Then
+        assertEquals(2, replayed);
+        assertEquals(2, player1.getRatedGames());
+        assertEquals(2 * Player.INITIAL_RATING, player1.getRating() + player2.getRating(), 1e-9);
+        assertEquals(Player.INITIAL_RATING - 16 + 32 * (1 - EloRating.expectedScore(1484, 1516)),
+                player2.getRating(), 1e-9);
+        verify(ratingHistoryRepository).deleteAllInBatch();
+        verify(jdbcTemplate).batchUpdate(anyString(),
+                ArgumentMatchers.<List<Object[]>>argThat(rows -> rows.size() == 4));
+        verify(eventPublisher).publishEvent(new RatingsChangedEvent());
+    }
+
+    @Test
+    void recomputeAll_WhenGamesAreCompletedAfterTheCount_ShouldStillReplayThem() {
+        // Given
+        var playedAt = LocalDateTime.now();
+        when(playerRepository.findAllForUpdate()).thenReturn(List.of(player1, player2));
+        when(gameRepository.countByStatus(Game.GameStatus.COMPLETED)).thenReturn(1L);
+        when(gameRepository.streamResultsInPlayingOrder(Game.GameStatus.COMPLETED)).thenReturn(Stream.of(
+                new GameResult(10L, 1L, 2L, 11, 4, playedAt),
+                new GameResult(11L, 2L, 1L, 11, 9, playedAt.plusMinutes(20)),
+                new GameResult(12L, 1L, 2L, 11, 7, playedAt.plusMinutes(40))));
+
+        // When
+        var replayed = ratingService.recomputeAll();
+
+        // Then
+        assertEquals(3, replayed);
+        assertEquals(3, player1.getRatedGames());
+        assertEquals(3, player2.getRatedGames());
+        verify(jdbcTemplate).batchUpdate(anyString(),
+                ArgumentMatchers.<List<Object[]>>argThat(rows -> rows.size() == 6));
+    }
+
+    @Test
+    void getLeaderboard_WithMorePlayers_ShouldReturnCursorForTheNextPage() {
+        // Given
+        player1.setRating(1600);
+        player2.setRating(1550);
+        var player3 = TestDataFactory.createPlayer();
+        player3.setId(3L);
+        when(playerRepository.findLeaderboard(Limit.of(3))).thenReturn(List.of(player1, player2, player3));
+
+        // When
+        var page = ratingService.getLeaderboard(null, null, 2);
+
+        // Then
+        assertEquals(2, page.getEntries().size());
+        assertEquals(1550.0, page.getNextAfterRating());
+        assertEquals(2L, page.getNextAfterId());
+        verify(playerRepository, never()).findLeaderboardAfter(1550, 2L, Limit.of(3));
+    }
+
+    @Test
+    void getLeaderboard_OnLastPage_ShouldReturnNoCursor() {
+        // Given
+        when(playerRepository.findLeaderboardAfter(1600, 1L, Limit.of(3))).thenReturn(List.of(player2));
+
+        // When
+        var page = ratingService.getLeaderboard(1600.0, 1L, 2);
+
+        // Then
+        assertEquals(1, page.getEntries().size());
+        assertNull(page.getNextAfterRating());
+        assertNull(page.getNextAfterId());
+    }
+}
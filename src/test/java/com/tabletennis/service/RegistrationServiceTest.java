@@ -2,22 +2,32 @@ package com.tabletennis.service;
 
 import com.tabletennis.TestDataFactory;
 import com.tabletennis.dto.RegistrationDto;
+import com.tabletennis.dto.TournamentRegistrationCount;
 import com.tabletennis.entity.Tournament;
+import com.tabletennis.entity.Tournament.TournamentStatus;
 import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.event.RegistrationChangedEvent;
+import com.tabletennis.event.TournamentChangedEvent;
 import com.tabletennis.mapping.RegistrationMapper;
 import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,9 +36,15 @@ class RegistrationServiceTest {
     @Mock
     private TournamentRegistrationRepository registrationRepository;
 
+    @Mock
+    private TournamentRepository tournamentRepository;
+
     @Mock
     private RegistrationMapper registrationMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private RegistrationService registrationService;
 
     private Tournament tournament;
@@ -37,10 +53,12 @@ class RegistrationServiceTest {
 
     @BeforeEach
     void setUp() {
-        registrationService = new RegistrationService(registrationRepository, registrationMapper);
+        registrationService = new RegistrationService(
+                registrationRepository, tournamentRepository, registrationMapper, eventPublisher);
 
         // Create test data using TestDataFactory
         tournament = TestDataFactory.createTournament();
+        tournament.setId(TestDataFactory.randomId());
         registration = TestDataFactory.createTournamentRegistrationWithTournament(tournament);
         registrationDto = TestDataFactory.createRegistrationDto();
     }
@@ -50,7 +68,7 @@ class RegistrationServiceTest {
         // Given
         var registrations = List.of(registration);
         when(registrationRepository.findAll()).thenReturn(registrations);
-        when(registrationMapper.convertToDto(registration)).thenReturn(registrationDto);
+        when(registrationMapper.convertToDtos(registrations)).thenReturn(List.of(registrationDto));
 
         // When
         var result = registrationService.findAllDto();
@@ -60,7 +78,7 @@ class RegistrationServiceTest {
         assertEquals(1, result.size());
         assertEquals(registrationDto, result.getFirst());
         verify(registrationRepository).findAll();
-        verify(registrationMapper).convertToDto(registration);
+        verify(registrationMapper).convertToDtos(registrations);
     }
 
     @Test
@@ -80,11 +98,61 @@ class RegistrationServiceTest {
 
     @Test
     void save_ShouldSaveRegistration() {
+        // Given
+        when(tournamentRepository.incrementRegistrationCount(tournament.getId(), TournamentStatus.OPEN, TournamentStatus.FULL))
+            .thenReturn(1);
+
         // When
         registrationService.save(registration);
 
         // Then
         verify(registrationRepository).save(registration);
+        verify(eventPublisher).publishEvent(new RegistrationChangedEvent(tournament.getId()));
+        verify(eventPublisher).publishEvent(new TournamentChangedEvent(tournament.getId()));
+        assertEquals(1, tournament.getRegistrationCount());
+        assertEquals(TournamentStatus.OPEN, tournament.getStatus());
+    }
+
+    @Test
+    void save_WhenLastPlaceIsTaken_ShouldMarkTournamentFull() {
+        // Given
+        tournament.setMaxEntrants(4);
+        tournament.setRegistrationCount(3);
+        when(tournamentRepository.incrementRegistrationCount(tournament.getId(), TournamentStatus.OPEN, TournamentStatus.FULL))
+            .thenReturn(1);
+
+        // When
+        registrationService.save(registration);
+
+        // Then
+        assertEquals(4, tournament.getRegistrationCount());
+        assertEquals(TournamentStatus.FULL, tournament.getStatus());
+    }
+
+    @Test
+    void save_WhenTournamentNotOpen_ShouldThrowException() {
+        // Given
+        when(tournamentRepository.incrementRegistrationCount(tournament.getId(), TournamentStatus.OPEN, TournamentStatus.FULL))
+            .thenReturn(0);
+
+        // When & Then
+        var exception = assertThrows(IllegalArgumentException.class, () -> registrationService.save(registration));
+        assertEquals("Tournament is not open for registration", exception.getMessage());
+        verify(registrationRepository, never()).save(registration);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void save_WhenPlayerAlreadyRegistered_ShouldThrowException() {
+        // Given
+        when(registrationRepository.existsByPlayerAndTournament(registration.getPlayer(), registration.getTournament()))
+            .thenReturn(true);
+
+        // When & Then
+        var exception = assertThrows(IllegalArgumentException.class, () -> registrationService.save(registration));
+        assertEquals("Player is already registered for this tournament", exception.getMessage());
+        verify(registrationRepository, never()).save(registration);
+        verify(tournamentRepository, never()).incrementRegistrationCount(any(), any(), any());
     }
 
     @Test
@@ -104,20 +172,53 @@ class RegistrationServiceTest {
     }
 
     @Test
-    void getTournamentCounts_ShouldReturnCountsGroupedByTournamentName() {
+    void getRegistrationCountsByTournamentId_ShouldKeepTournamentsWithSameNameApart() {
         // Given
-        List<TournamentRegistration> registrations = List.of(registration);
-        when(registrationRepository.findAll()).thenReturn(registrations);
+        var tournamentId1 = TestDataFactory.randomId();
+        var tournamentId2 = tournamentId1 + 1;
+        var count1 = new TournamentRegistrationCount(tournamentId1, tournament.getName(), 3L);
+        var count2 = new TournamentRegistrationCount(tournamentId2, tournament.getName(), 1L);
+        when(registrationRepository.countRegistrationsByTournament()).thenReturn(List.of(count1, count2));
 
         // When
-        var result = registrationService.getTournamentCounts();
+        var result = registrationService.getRegistrationCountsByTournamentId();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(count1, result.get(tournamentId1));
+        assertEquals(count2, result.get(tournamentId2));
+        assertEquals(List.of(tournamentId1, tournamentId2), List.copyOf(result.keySet()));
+        verify(registrationRepository).countRegistrationsByTournament();
+        verify(registrationRepository, never()).findAll();
+    }
+
+    @Test
+    void findByTournamentIdsDto_ShouldGroupRegistrationDtosByTournamentId() {
+        // Given
+        var tournamentId = TestDataFactory.randomId();
+        var tournamentDto = TestDataFactory.createTournamentDtoFromTournament(tournament);
+        tournamentDto.setId(tournamentId);
+        registrationDto.setTournament(tournamentDto);
+        when(registrationRepository.findWithPlayerByTournamentIdIn(List.of(tournamentId))).thenReturn(List.of(registration));
+        when(registrationMapper.convertToDtos(List.of(registration))).thenReturn(List.of(registrationDto));
+
+        // When
+        var result = registrationService.findByTournamentIdsDto(List.of(tournamentId));
 
         // Then
-        assertNotNull(result);
         assertEquals(1, result.size());
-        assertTrue(result.containsKey(registration.getTournament().getName()));
-        assertEquals(1L, result.get(registration.getTournament().getName()));
-        verify(registrationRepository).findAll();
+        assertEquals(List.of(registrationDto), result.get(tournamentId));
+        verify(registrationRepository).findWithPlayerByTournamentIdIn(List.of(tournamentId));
+    }
+
+    @Test
+    void findByTournamentIdsDto_WithNoTournamentIds_ShouldNotQueryRepository() {
+        // When
+        var result = registrationService.findByTournamentIdsDto(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(registrationRepository);
     }
 
     @Test
@@ -126,7 +227,7 @@ class RegistrationServiceTest {
         var tournamentId = TestDataFactory.randomId();
         var registrations = List.of(registration);
         when(registrationRepository.findByTournamentId(tournamentId)).thenReturn(registrations);
-        when(registrationMapper.convertToDto(registration)).thenReturn(registrationDto);
+        when(registrationMapper.convertToDtos(registrations)).thenReturn(List.of(registrationDto));
 
         // When
         var result = registrationService.findByTournamentIdDto(tournamentId);
@@ -136,6 +237,6 @@ class RegistrationServiceTest {
         assertEquals(1, result.size());
         assertEquals(registrationDto, result.getFirst());
         verify(registrationRepository).findByTournamentId(tournamentId);
-        verify(registrationMapper).convertToDto(registration);
+        verify(registrationMapper).convertToDtos(registrations);
     }
 }
@@ -0,0 +1,81 @@
+package com.tabletennis.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.tabletennis.service.RoundRobinScheduler.Pairing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoundRobinSchedulerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 8, 13, 64})
+    void schedule_ShouldPairEveryTwoPlayersExactlyOnce(int playerCount) {
+        // When
+        var pairings = RoundRobinScheduler.schedule(playerCount).toList();
+
+        // Then
+        var pairs = new HashSet<Long>();
+        pairings.forEach(pairing -> assertTrue(pairs.add(pairKey(pairing)), "Repeated pairing " + pairing));
+        assertEquals(playerCount * (playerCount - 1) / 2, pairs.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 8, 13, 64})
+    void schedule_ShouldHaveEachPlayerPlayAtMostOncePerRound(int playerCount) {
+        // When
+        var byRound = RoundRobinScheduler.schedule(playerCount)
+                .collect(Collectors.groupingBy(Pairing::round));
+
+        // Then
+        assertEquals(RoundRobinScheduler.roundCount(playerCount), byRound.size());
+        byRound.forEach((round, pairings) -> {
+            var players = new HashSet<Integer>();
+            pairings.forEach(pairing -> {
+                assertTrue(players.add(pairing.player1()), "Player plays twice in round " + round);
+                assertTrue(players.add(pairing.player2()), "Player plays twice in round " + round);
+            });
+            assertEquals(playerCount / 2, pairings.size());
+        });
+    }
+
+    @Test
+    void schedule_WithEvenPlayers_ShouldUseOneRoundFewerThanPlayers() {
+        // Then
+        assertEquals(63, RoundRobinScheduler.roundCount(64));
+        assertEquals(List.of(
+                new Pairing(1, 0, 3), new Pairing(1, 1, 2),
+                new Pairing(2, 3, 1), new Pairing(2, 2, 0),
+                new Pairing(3, 2, 3), new Pairing(3, 0, 1)), RoundRobinScheduler.schedule(4).toList());
+    }
+
+    @Test
+    void schedule_WithOddPlayers_ShouldGiveEachPlayerOneBye() {
+        // When
+        var pairings = RoundRobinScheduler.schedule(5).toList();
+
+        // Then
+        assertEquals(5, RoundRobinScheduler.roundCount(5));
+        assertEquals(10, pairings.size());
+        assertTrue(pairings.stream().allMatch(pairing -> pairing.player1() < 5 && pairing.player2() < 5));
+    }
+
+    @Test
+    void schedule_WithFewerThanTwoPlayers_ShouldBeEmpty() {
+        // Then
+        assertEquals(0, RoundRobinScheduler.schedule(1).count());
+        assertEquals(0, RoundRobinScheduler.roundCount(0));
+    }
+
+    private static long pairKey(Pairing pairing) {
+        var low = Math.min(pairing.player1(), pairing.player2());
+        var high = Math.max(pairing.player1(), pairing.player2());
+        return (long) low << 32 | high;
+    }
+}
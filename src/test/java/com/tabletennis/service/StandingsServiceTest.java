@@ -0,0 +1,124 @@
+package com.tabletennis.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.config.CacheConfig;
+import com.tabletennis.dto.GameResult;
+import com.tabletennis.entity.Game;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.event.GameResultRecordedEvent;
+import com.tabletennis.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StandingsServiceTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private RegistrationService registrationService;
+
+    private StandingsService standingsService;
+
+    private Tournament tournament;
+    private Long player1Id;
+    private Long player2Id;
+
+    @BeforeEach
+    void setUp() {
+        standingsService = new StandingsService(
+                gameRepository, registrationService, new ConcurrentMapCacheManager(CacheConfig.STANDINGS));
+
+        // Create test data using TestDataFactory
+        tournament = TestDataFactory.createTournament();
+        tournament.setId(TestDataFactory.randomId());
+        var registrations = TestDataFactory.createTournamentRegistrationsForTournament(tournament, 2);
+        player1Id = TestDataFactory.randomId();
+        player2Id = player1Id + 1;
+        registrations.get(0).getPlayer().setId(player1Id);
+        registrations.get(1).getPlayer().setId(player2Id);
+        when(registrationService.findByTournament(tournament)).thenReturn(registrations);
+    }
+
+    @Test
+    void getStandings_OnCacheMiss_ShouldBuildFromCompletedResults() {
+        // Given
+        when(gameRepository.findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED))
+                .thenReturn(List.of(new GameResult(1L, player1Id, player2Id, 11, 6, LocalDateTime.now())));
+
+        // When
+        var result = standingsService.getStandings(tournament);
+
+        // Then
+        assertEquals(player1Id, result.getFirst().getPlayerId());
+        assertEquals(1, result.getFirst().getWon());
+        assertEquals(5, result.getFirst().getPointsDifference());
+    }
+
+    @Test
+    void onGameResultRecorded_WithCachedTable_ShouldUpdateWithoutRebuilding() {
+        // Given
+        when(gameRepository.findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED))
+                .thenReturn(List.of(new GameResult(1L, player1Id, player2Id, 11, 6, LocalDateTime.now())));
+        standingsService.getStandings(tournament);
+
+        // When
+        standingsService.onGameResultRecorded(
+                new GameResultRecordedEvent(tournament.getId(), 1L, player1Id, player2Id, 8, 11));
+        var result = standingsService.getStandings(tournament);
+
+        // Then
+        assertEquals(player2Id, result.getFirst().getPlayerId());
+        assertEquals(1, result.getFirst().getPlayed());
+        assertEquals(3, result.getFirst().getPointsDifference());
+        verify(gameRepository, times(1)).findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED);
+    }
+
+    @Test
+    void getCrosstable_AfterResultIsRecorded_ShouldShareTheCachedTable() {
+        // Given
+        when(gameRepository.findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED))
+                .thenReturn(List.of());
+        standingsService.getStandings(tournament);
+
+        // When
+        standingsService.onGameResultRecorded(
+                new GameResultRecordedEvent(tournament.getId(), 1L, player1Id, player2Id, 11, 6));
+        var result = standingsService.getCrosstable(tournament);
+
+        // Then
+        assertEquals(player1Id, result.getFirst().getPlayerId());
+        assertEquals(11, result.getFirst().getResults().get(1).getPointsFor());
+        assertEquals(1, result.get(1).getResults().getFirst().getLost());
+        verify(gameRepository, times(1)).findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED);
+    }
+
+    @Test
+    void onGameResultRecorded_WithUnknownPlayer_ShouldRebuildOnNextRead() {
+        // Given
+        when(gameRepository.findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED))
+                .thenReturn(List.of());
+        standingsService.getStandings(tournament);
+
+        // When
+        standingsService.onGameResultRecorded(
+                new GameResultRecordedEvent(tournament.getId(), 1L, player1Id, player2Id + 1, 11, 6));
+        standingsService.getStandings(tournament);
+
+        // Then
+        verify(gameRepository, times(2)).findResultsByTournamentId(tournament.getId(), Game.GameStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,136 @@
+package com.tabletennis.service;
+
+import java.util.List;
+
+import com.tabletennis.dto.CrosstableRowDto;
+import com.tabletennis.dto.HeadToHeadDto;
+import com.tabletennis.dto.StandingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StandingsTableTest {
+
+    private StandingsTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new StandingsTable(List.of(10L, 20L, 30L), List.of("Alice Smith", "Bob Jones", "Carol White"));
+    }
+
+    @Test
+    void getStandings_WithNoResults_ShouldListPlayersInRegistrationOrder() {
+        // When
+        var result = table.getStandings();
+
+        // Then
+        assertEquals(List.of(
+                new StandingDto(1, 10L, "Alice Smith", 0, 0, 0, 0, 0, 0),
+                new StandingDto(2, 20L, "Bob Jones", 0, 0, 0, 0, 0, 0),
+                new StandingDto(3, 30L, "Carol White", 0, 0, 0, 0, 0, 0)), result);
+    }
+
+    @Test
+    void record_ShouldUpdateBothPlayersAndRanking() {
+        // When
+        table.record(1L, 10L, 30L, 5, 11);
+
+        // Then
+        var result = table.getStandings();
+        assertEquals(new StandingDto(1, 30L, "Carol White", 1, 1, 0, 11, 5, 6), result.get(0));
+        assertEquals(new StandingDto(2, 20L, "Bob Jones", 0, 0, 0, 0, 0, 0), result.get(1));
+        assertEquals(new StandingDto(3, 10L, "Alice Smith", 1, 0, 1, 5, 11, -6), result.get(2));
+    }
+
+    @Test
+    void record_WithCorrectedScore_ShouldReplacePreviousResult() {
+        // Given
+        table.record(1L, 10L, 20L, 11, 7);
+
+        // When
+        table.record(1L, 10L, 20L, 9, 11);
+
+        // Then
+        var result = table.getStandings();
+        assertEquals(new StandingDto(1, 20L, "Bob Jones", 1, 1, 0, 11, 9, 2), result.get(0));
+        assertEquals(new StandingDto(3, 10L, "Alice Smith", 1, 0, 1, 9, 11, -2), result.get(2));
+    }
+
+    @Test
+    void record_WhenSameResultIsRecordedTwice_ShouldCountItOnce() {
+        // When
+        table.record(1L, 10L, 20L, 11, 7);
+        table.record(1L, 10L, 20L, 11, 7);
+
+        // Then
+        var leader = table.getStandings().getFirst();
+        assertEquals(1, leader.getPlayed());
+        assertEquals(11, leader.getPointsFor());
+    }
+
+    @Test
+    void getStandings_WithEqualWins_ShouldRankOnPointsDifference() {
+        // Given
+        table.record(1L, 10L, 20L, 11, 9);
+        table.record(2L, 20L, 30L, 11, 3);
+        table.record(3L, 30L, 10L, 13, 11);
+
+        // When
+        var result = table.getStandings();
+
+        // Then
+        assertEquals(List.of(20L, 10L, 30L), result.stream().map(StandingDto::getPlayerId).toList());
+    }
+
+    @Test
+    void record_WithUnknownPlayer_ShouldLeaveTableUnchanged() {
+        // When
+        var recorded = table.record(1L, 10L, 99L, 11, 5);
+
+        // Then
+        assertFalse(recorded);
+        assertEquals(0, table.getStandings().getFirst().getPlayed());
+    }
+
+    @Test
+    void getCrosstable_ShouldHoldEachPairsResultFromBothSides() {
+        // Given
+        table.record(1L, 10L, 30L, 5, 11);
+        table.record(2L, 20L, 30L, 11, 11);
+
+        // When
+        var result = table.getCrosstable();
+
+        // Then
+        assertEquals(List.of(10L, 20L, 30L), result.stream().map(CrosstableRowDto::getPlayerId).toList());
+        var alice = result.get(0).getResults();
+        assertNull(alice.get(0));
+        assertEquals(new HeadToHeadDto(0, 0, 0, 0, 0), alice.get(1));
+        assertEquals(new HeadToHeadDto(1, 0, 1, 5, 11), alice.get(2));
+        assertEquals(new HeadToHeadDto(1, 1, 0, 11, 5), result.get(2).getResults().get(0));
+        assertEquals(new HeadToHeadDto(1, 0, 0, 11, 11), result.get(2).getResults().get(1));
+    }
+
+    @Test
+    void getCrosstable_WithCorrectedScore_ShouldReplacePreviousResult() {
+        // Given
+        table.record(1L, 10L, 20L, 11, 7);
+        table.record(2L, 20L, 10L, 11, 9);
+
+        // When
+        table.record(1L, 10L, 20L, 6, 11);
+
+        // Then
+        assertEquals(new HeadToHeadDto(2, 0, 2, 15, 22), table.getCrosstable().get(0).getResults().get(1));
+    }
+
+    @Test
+    void constructor_WithMissingNames_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new StandingsTable(List.of(10L, 20L), List.of("Alice Smith")));
+    }
+}
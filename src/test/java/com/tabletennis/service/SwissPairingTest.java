@@ -0,0 +1,116 @@
+package com.tabletennis.service;
+
+import java.util.List;
+import java.util.Random;
+
+import com.tabletennis.service.RoundRobinScheduler.Pairing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SwissPairingTest {
+
+    @ParameterizedTest(name = "{0} players")
+    @CsvSource({"1, 0", "2, 1", "3, 2", "4, 2", "41, 6", "64, 6", "512, 9"})
+    void roundCount_ShouldBeEnoughToLeaveOnePerfectScore(int playerCount, int expectedRounds) {
+        assertEquals(expectedRounds, SwissPairing.roundCount(playerCount));
+    }
+
+    @Test
+    void pair_FirstRound_ShouldPairTopHalfAgainstBottomHalf() {
+        // When
+        var round = SwissPairing.pair(1, new int[8], new boolean[8][8], new int[8]);
+
+        // Then
+        assertEquals(List.of(new Pairing(1, 0, 4), new Pairing(1, 1, 5), new Pairing(1, 2, 6), new Pairing(1, 3, 7)),
+                round.pairings());
+        assertEquals(-1, round.bye());
+    }
+
+    @Test
+    void pair_ShouldPairWithinScoreGroupsAndDropTheOddPlayerDown() {
+        // When
+        var round = SwissPairing.pair(2, new int[] {2, 0, 2, 0, 2, 0}, new boolean[6][6], new int[6]);
+
+        // Then
+        assertEquals(List.of(new Pairing(2, 0, 2), new Pairing(2, 4, 1), new Pairing(2, 3, 5)), round.pairings());
+    }
+
+    @Test
+    void pair_ShouldAvoidRematches() {
+        // Given
+        var played = new boolean[4][4];
+        played[0][2] = true;
+        played[2][0] = true;
+
+        // When
+        var round = SwissPairing.pair(2, new int[4], played, new int[4]);
+
+        // Then
+        assertEquals(List.of(new Pairing(2, 0, 3), new Pairing(2, 1, 2)), round.pairings());
+    }
+
+    @Test
+    void pair_WithOddNumberOfPlayers_ShouldGiveByeToLowestRankedWithFewestByes() {
+        // When
+        var round = SwissPairing.pair(2, new int[5], new boolean[5][5], new int[] {0, 0, 0, 0, 1});
+
+        // Then
+        assertEquals(3, round.bye());
+        assertEquals(List.of(new Pairing(2, 0, 2), new Pairing(2, 1, 4)), round.pairings());
+    }
+
+    @Test
+    void pair_WhenEveryoneHasMet_ShouldStillPairEveryone() {
+        // Given
+        var played = new boolean[4][4];
+        for (var player = 0; player < 4; player++) {
+            for (var opponent = 0; opponent < 4; opponent++) {
+                played[player][opponent] = player != opponent;
+            }
+        }
+
+        // When
+        var round = SwissPairing.pair(4, new int[4], played, new int[4]);
+
+        // Then
+        assertEquals(List.of(new Pairing(4, 0, 2), new Pairing(4, 1, 3)), round.pairings());
+    }
+
+    @ParameterizedTest(name = "{0} players")
+    @CsvSource({"5", "13", "41", "100", "511", "512"})
+    void pair_OverAWholeEvent_ShouldNeverRematchAndShareOutByes(int playerCount) {
+        // Given
+        var random = new Random(playerCount);
+        var points = new int[playerCount];
+        var played = new boolean[playerCount][playerCount];
+        var byes = new int[playerCount];
+
+        for (var roundNumber = 1; roundNumber <= SwissPairing.roundCount(playerCount); roundNumber++) {
+            // When
+            var round = SwissPairing.pair(roundNumber, points, played, byes);
+
+            // Then
+            var seen = new boolean[playerCount];
+            for (var pairing : round.pairings()) {
+                assertFalse(played[pairing.player1()][pairing.player2()], "Rematch in round " + roundNumber);
+                assertTrue(!seen[pairing.player1()] && !seen[pairing.player2()], "Player paired twice");
+                seen[pairing.player1()] = true;
+                seen[pairing.player2()] = true;
+                played[pairing.player1()][pairing.player2()] = true;
+                played[pairing.player2()][pairing.player1()] = true;
+                points[random.nextBoolean() ? pairing.player1() : pairing.player2()] += 2;
+            }
+            assertEquals(playerCount / 2, round.pairings().size());
+            if (round.bye() >= 0) {
+                assertFalse(seen[round.bye()]);
+                assertEquals(0, byes[round.bye()]++, "Player given a second bye");
+                points[round.bye()] += 2;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.tabletennis.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.tabletennis.ScheduleBounds;
+import com.tabletennis.service.RoundRobinScheduler.Pairing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableSchedulerTest {
+
+    @ParameterizedTest(name = "{0} players, {1} tables, {2} rest slots")
+    @CsvSource({"4, 1, 0", "8, 2, 1", "13, 3, 1", "16, 8, 0", "16, 8, 2", "64, 10, 1"})
+    void allocate_ShouldNeverDoubleBookTablesOrPlayersAndShouldRespectRest(int playerCount, int tableCount, int restSlots) {
+        // Given
+        var pairings = RoundRobinScheduler.schedule(playerCount).toList();
+
+        // When
+        var allocation = TableScheduler.allocate(pairings, playerCount, tableCount, restSlots);
+
+        // Then
+        var bookedTables = new HashSet<Long>();
+        var lastSlot = new int[playerCount];
+        for (var index : allocation.playingOrder()) {
+            var table = allocation.tables()[index];
+            var slot = allocation.slots()[index];
+            assertTrue(table >= 1 && table <= tableCount, "Table out of range: " + table);
+            assertTrue(bookedTables.add((long) slot << 32 | table), "Table " + table + " booked twice in slot " + slot);
+            for (var player : List.of(pairings.get(index).player1(), pairings.get(index).player2())) {
+                assertTrue(lastSlot[player] == 0 || slot - lastSlot[player] > restSlots,
+                        "Player " + player + " not rested before slot " + slot);
+                lastSlot[player] = slot;
+            }
+        }
+        assertEquals(pairings.size(), allocation.playingOrder().length);
+    }
+
+    @ParameterizedTest(name = "{0} players, {1} tables, {2} rest slots")
+    @CsvSource({"16, 1, 0", "16, 4, 0", "16, 8, 1", "128, 8, 0", "128, 8, 1", "128, 64, 1"})
+    void allocate_WithRoundRobinSchedule_ShouldReachLowerBound(int playerCount, int tableCount, int restSlots) {
+        // Given
+        var pairings = RoundRobinScheduler.schedule(playerCount).toList();
+
+        // When
+        var allocation = TableScheduler.allocate(pairings, playerCount, tableCount, restSlots);
+
+        // Then
+        assertEquals(ScheduleBounds.lowerBound(pairings, playerCount, tableCount, restSlots), allocation.slotCount());
+    }
+
+    @Test
+    void allocate_ShouldListGamesInSlotThenTableOrder() {
+        // Given
+        var pairings = List.of(new Pairing(1, 0, 1), new Pairing(1, 2, 3), new Pairing(2, 0, 2), new Pairing(2, 1, 3));
+
+        // When
+        var allocation = TableScheduler.allocate(pairings, 4, 2, 1);
+
+        // Then
+        assertArrayEquals(new int[] {1, 2, 1, 2}, allocation.tables());
+        assertArrayEquals(new int[] {1, 1, 3, 3}, allocation.slots());
+        assertArrayEquals(IntStream.range(0, 4).toArray(), allocation.playingOrder());
+        assertEquals(3, allocation.slotCount());
+    }
+
+    @Test
+    void allocate_FollowingEarlierGames_ShouldWaitUntilBothPlayersAreAvailable() {
+        // Given
+        var availableFrom = new int[] {4, 6, 4, 4};
+
+        // When
+        var allocation = TableScheduler.allocate(new int[] {0, 2}, new int[] {1, 3}, availableFrom, 2, 1);
+
+        // Then
+        assertArrayEquals(new int[] {1, 1}, allocation.tables());
+        assertArrayEquals(new int[] {6, 4}, allocation.slots());
+        assertArrayEquals(new int[] {1, 0}, allocation.playingOrder());
+        assertEquals(6, allocation.slotCount());
+        assertArrayEquals(new int[] {8, 8, 6, 6}, availableFrom);
+    }
+
+    @Test
+    void allocate_WithNoTables_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> TableScheduler.allocate(List.of(), 2, 0, 0));
+    }
+}
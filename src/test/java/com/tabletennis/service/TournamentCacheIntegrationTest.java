@@ -0,0 +1,118 @@
+package com.tabletennis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.config.CacheConfig;
+import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRepository;
+import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Not transactional: caches are evicted after commit, so each write must really commit
+ */
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+@ActiveProfiles("test")
+class TournamentCacheIntegrationTest {
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository registrationRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void findAvailableForRegistration_ShouldBeServedFromCacheUntilRegistrationIsSaved() {
+        // Given
+        var created = tournamentService.createTournament(TestDataFactory.createTournamentRequest());
+        var first = tournamentService.findAvailableForRegistration();
+
+        // When
+        var cached = tournamentService.findAvailableForRegistration();
+        registerPlayer(created.getId());
+        var afterRegistration = tournamentService.findAvailableForRegistration();
+
+        // Then
+        assertSame(first, cached);
+        assertNotSame(cached, afterRegistration);
+        assertEquals(0, cached.getFirst().getCurrentRegistrations());
+        assertEquals(1, afterRegistration.getFirst().getCurrentRegistrations());
+        assertTrue(nativeCache(CacheConfig.OPEN_TOURNAMENTS).stats().hitCount() >= 1);
+    }
+
+    @Test
+    void findAllOrderByDate_ShouldBeEvictedWhenTournamentIsCreatedOrDeleted() {
+        // Given
+        var empty = tournamentService.findAllOrderByDate();
+        var created = tournamentService.createTournament(TestDataFactory.createTournamentRequest());
+
+        // When
+        var afterCreate = tournamentService.findAllOrderByDate();
+        var cached = tournamentService.findAllOrderByDate();
+        tournamentService.deleteById(created.getId());
+        var afterDelete = tournamentService.findAllOrderByDate();
+
+        // Then
+        assertTrue(empty.isEmpty());
+        assertEquals(1, afterCreate.size());
+        assertSame(afterCreate, cached);
+        assertTrue(afterDelete.isEmpty());
+    }
+
+    private void registerPlayer(Long tournamentId) {
+        var tournament = tournamentRepository.findById(tournamentId).orElseThrow();
+        var player = playerRepository.save(TestDataFactory.createPlayer());
+        registrationService.save(new TournamentRegistration(player, tournament));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+
+    private void cleanUp() {
+        gameRepository.deleteAll();
+        registrationRepository.deleteAll();
+        playerRepository.deleteAll();
+        tournamentRepository.deleteAll();
+    }
+}
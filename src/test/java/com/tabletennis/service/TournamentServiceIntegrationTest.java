@@ -0,0 +1,204 @@
+package com.tabletennis.service;
+
+import com.tabletennis.StatementCounter;
+import com.tabletennis.TestDataFactory;
+import com.tabletennis.entity.Tournament;
+import com.tabletennis.repository.GameRepository;
+import com.tabletennis.repository.PlayerRepository;
+import com.tabletennis.repository.TournamentRegistrationRepository;
+import com.tabletennis.repository.TournamentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TournamentServiceIntegrationTest {
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository registrationRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private GameService gameService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository.deleteAll();
+        registrationRepository.deleteAll();
+        playerRepository.deleteAll();
+        tournamentRepository.deleteAll();
+
+        statementCounter = new StatementCounter(entityManager);
+    }
+
+    @Test
+    void findAllOrderByDate_ShouldUseConstantNumberOfStatements_AsTournamentsGrow() {
+        // Given
+        createTournamentsWithRegistrations(2, 3);
+        var fewTournaments = statementCounter.countAndReturn(tournamentService::findAllOrderByDate);
+
+        createTournamentsWithRegistrations(25, 3);
+        var manyTournaments = statementCounter.countAndReturn(tournamentService::findAllOrderByDate);
+
+        // Then
+        assertEquals(2, fewTournaments.value().size());
+        assertEquals(27, manyTournaments.value().size());
+        assertEquals(fewTournaments.statements(), manyTournaments.statements());
+        assertTrue(manyTournaments.statements() <= 3,
+                "Expected at most 3 statements but was " + manyTournaments.statements());
+    }
+
+    @Test
+    void findAllOrderByDate_ShouldPopulateRegistrationsAndStartedFlags() {
+        // Given
+        var tournaments = createTournamentsWithRegistrations(2, 2);
+        var startedTournament = tournaments.getFirst();
+        gameService.startTournament(startedTournament, 1, Duration.ofMinutes(20), 0);
+
+        // When
+        var result = statementCounter.countAndReturn(tournamentService::findAllOrderByDate).value();
+
+        // Then
+        var started = result.stream().filter(t -> t.getId().equals(startedTournament.getId())).findFirst().orElseThrow();
+        var notStarted = result.stream().filter(t -> !t.getId().equals(startedTournament.getId())).findFirst().orElseThrow();
+        assertTrue(started.isStarted());
+        assertFalse(notStarted.isStarted());
+        assertEquals(2, started.getCurrentRegistrations());
+        assertEquals(2, notStarted.getRegistrations().size());
+        assertTrue(notStarted.getRegistrations().stream().allMatch(r -> r.getPlayer().getEmail() != null));
+    }
+
+    @Test
+    void findAvailableForRegistration_ShouldUseOneStatement_RegardlessOfTournamentCount() {
+        // Given
+        createTournamentsWithRegistrations(2, 1);
+        var fewTournaments = statementCounter.countAndReturn(tournamentService::findAvailableForRegistration);
+
+        createTournamentsWithRegistrations(25, 1);
+        var manyTournaments = statementCounter.countAndReturn(tournamentService::findAvailableForRegistration);
+
+        // Then
+        assertEquals(2, fewTournaments.value().size());
+        assertEquals(27, manyTournaments.value().size());
+        assertEquals(1, fewTournaments.statements());
+        assertEquals(1, manyTournaments.statements());
+    }
+
+    @Test
+    void findAvailableForRegistration_ShouldExcludeStartedAndFullTournaments() {
+        // Given
+        var startedTournament = createTournamentWithRegistrations(5, 2);
+        var fullTournament = createTournamentWithRegistrations(2, 2);
+        var openTournament = createTournamentWithRegistrations(5, 2);
+        gameService.startTournament(startedTournament, 1, Duration.ofMinutes(20), 0);
+
+        // When
+        var result = statementCounter.countAndReturn(tournamentService::findAvailableForRegistration).value();
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(openTournament.getId(), result.getFirst().getId());
+        assertEquals(2, result.getFirst().getCurrentRegistrations());
+        assertEquals(3, result.getFirst().getRemainingSlots());
+        assertEquals(Tournament.TournamentStatus.FULL,
+                tournamentRepository.findById(fullTournament.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void registrationAndGameResults_ShouldMoveTournamentThroughLifecycleStatuses() {
+        // Given
+        var tournament = createTournamentWithRegistrations(2, 2);
+        assertEquals(Tournament.TournamentStatus.FULL, reload(tournament).getStatus());
+        assertEquals(2, reload(tournament).getRegistrationCount());
+
+        // When
+        var games = gameService.startTournament(tournament, 1, Duration.ofMinutes(20), 0);
+        var statusAfterStart = reload(tournament).getStatus();
+        gameService.updateGameScore(games.getFirst().getId(), 11, 7);
+
+        // Then
+        assertEquals(Tournament.TournamentStatus.STARTED, statusAfterStart);
+        assertEquals(Tournament.TournamentStatus.COMPLETED, reload(tournament).getStatus());
+    }
+
+    @Test
+    void updateTournament_WhenMaxEntrantsReached_ShouldMarkTournamentFull() {
+        // Given
+        var tournament = createTournamentWithRegistrations(5, 3);
+        var request = TestDataFactory.createTournamentRequest();
+        request.setMaxEntrants(3);
+
+        // When
+        var result = tournamentService.updateTournament(tournament.getId(), request);
+
+        // Then
+        assertTrue(result.isFull());
+        assertEquals(Tournament.TournamentStatus.FULL, reload(tournament).getStatus());
+    }
+
+    private Tournament reload(Tournament tournament) {
+        entityManager.flush();
+        entityManager.clear();
+        return tournamentRepository.findById(tournament.getId()).orElseThrow();
+    }
+
+    private Tournament createTournamentWithRegistrations(int maxEntrants, int players) {
+        var tournament = TestDataFactory.createTournament();
+        tournament.setMaxEntrants(maxEntrants);
+        var savedTournament = tournamentRepository.save(tournament);
+        TestDataFactory.createTournamentRegistrationsForTournament(savedTournament, players)
+                .forEach(registration -> {
+                    playerRepository.save(registration.getPlayer());
+                    registrationService.save(registration);
+                });
+        return savedTournament;
+    }
+
+    private List<Tournament> createTournamentsWithRegistrations(int tournamentCount, int playersPerTournament) {
+        return IntStream.range(0, tournamentCount)
+                .mapToObj(i -> {
+                    var tournament = tournamentRepository.save(TestDataFactory.createTournament());
+                    TestDataFactory.createTournamentRegistrationsForTournament(tournament, playersPerTournament)
+                            .forEach(registration -> {
+                                playerRepository.save(registration.getPlayer());
+                                registrationService.save(registration);
+                            });
+                    return tournament;
+                })
+                .toList();
+    }
+}
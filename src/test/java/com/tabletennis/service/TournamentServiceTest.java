@@ -2,6 +2,7 @@ package com.tabletennis.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.tabletennis.TestDataFactory;
@@ -9,6 +10,7 @@ import com.tabletennis.dto.RegistrationDto;
 import com.tabletennis.dto.TournamentDto;
 import com.tabletennis.entity.Tournament;
 import com.tabletennis.entity.TournamentRegistration;
+import com.tabletennis.event.TournamentChangedEvent;
 import com.tabletennis.mapping.RegistrationMapper;
 import com.tabletennis.mapping.TournamentMapper;
 import com.tabletennis.repository.TournamentRepository;
@@ -17,14 +19,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,9 +38,6 @@ class TournamentServiceTest {
     @Mock
     private TournamentRepository tournamentRepository;
 
-    @Mock
-    private GameService gameService;
-
     @Mock
     private RegistrationService registrationService;
 
@@ -46,6 +47,9 @@ class TournamentServiceTest {
     @Mock
     private RegistrationMapper registrationMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private TournamentService tournamentService;
 
     private Tournament tournament;
@@ -55,7 +59,7 @@ class TournamentServiceTest {
     @BeforeEach
     void setUp() {
         tournamentService = new TournamentService(
-                tournamentRepository, gameService, registrationService, tournamentMapper, registrationMapper);
+                tournamentRepository, registrationService, tournamentMapper, registrationMapper, eventPublisher);
 
         // Create test data using TestDataFactory
         tournament = TestDataFactory.createTournament();
@@ -66,13 +70,14 @@ class TournamentServiceTest {
     @Test
     void findAllOrderByDate_ShouldReturnTournamentDtos() {
         // Given
+        tournament.setId(TestDataFactory.randomId());
         var tournaments = List.of(tournament);
+        var registrationDtos = List.of(new RegistrationDto());
 
         when(tournamentRepository.findAllByOrderByDateAsc()).thenReturn(tournaments);
-        when(registrationService.findByTournament(tournament)).thenReturn(registrations);
-        when(registrationMapper.convertToDto(any())).thenReturn(new RegistrationDto());
-        when(gameService.isTournamentStarted(tournament)).thenReturn(false);
-        when(tournamentMapper.convertToDto(eq(tournament), any(), anyBoolean())).thenReturn(tournamentDto);
+        when(registrationService.findByTournamentIdsDto(List.of(tournament.getId())))
+                .thenReturn(Map.of(tournament.getId(), registrationDtos));
+        when(tournamentMapper.convertToDto(eq(tournament), any())).thenReturn(tournamentDto);
 
         // When
         var result = tournamentService.findAllOrderByDate();
@@ -81,9 +86,31 @@ class TournamentServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(tournamentRepository).findAllByOrderByDateAsc();
-        verify(registrationService).findByTournament(tournament);
-        verify(gameService).isTournamentStarted(tournament);
-        verify(tournamentMapper).convertToDto(eq(tournament), any(), eq(false));
+        verify(registrationService).findByTournamentIdsDto(List.of(tournament.getId()));
+        verify(tournamentMapper).convertToDto(tournament, registrationDtos);
+    }
+
+    @Test
+    void findAllOrderByDate_ShouldUseBulkLookupsInsteadOfPerTournamentQueries() {
+        // Given
+        tournament.setId(TestDataFactory.randomId());
+        var startedTournament = TestDataFactory.createTournament();
+        startedTournament.setId(TestDataFactory.randomId());
+        startedTournament.setStatus(Tournament.TournamentStatus.STARTED);
+        var tournamentIds = List.of(tournament.getId(), startedTournament.getId());
+
+        when(tournamentRepository.findAllByOrderByDateAsc()).thenReturn(List.of(tournament, startedTournament));
+        when(registrationService.findByTournamentIdsDto(tournamentIds)).thenReturn(Map.of());
+        when(tournamentMapper.convertToDto(any(Tournament.class), any())).thenReturn(tournamentDto);
+
+        // When
+        var result = tournamentService.findAllOrderByDate();
+
+        // Then
+        assertEquals(2, result.size());
+        verify(tournamentMapper).convertToDto(tournament, List.of());
+        verify(tournamentMapper).convertToDto(startedTournament, List.of());
+        verify(registrationService, never()).findByTournament(any());
     }
 
     @Test
@@ -92,9 +119,8 @@ class TournamentServiceTest {
         var tournamentId = TestDataFactory.randomId();
         when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
         when(registrationService.findByTournament(tournament)).thenReturn(registrations);
-        when(registrationMapper.convertToDto(any())).thenReturn(new RegistrationDto());
-        when(gameService.isTournamentStarted(tournament)).thenReturn(false);
-        when(tournamentMapper.convertToDto(eq(tournament), any(), anyBoolean())).thenReturn(tournamentDto);
+        when(registrationMapper.convertToDtos(registrations)).thenReturn(List.of(new RegistrationDto()));
+        when(tournamentMapper.convertToDto(eq(tournament), any())).thenReturn(tournamentDto);
 
         // When
         var result = tournamentService.findByIdDto(tournamentId);
@@ -144,6 +170,7 @@ class TournamentServiceTest {
 
         // Then
         verify(tournamentRepository).deleteById(tournamentId);
+        verify(eventPublisher).publishEvent(new TournamentChangedEvent(tournamentId));
     }
 
     @Test
@@ -151,6 +178,7 @@ class TournamentServiceTest {
         // Given
         var tournamentRequest = TestDataFactory.createTournamentRequest();
         var newTournament = TestDataFactory.createTournament();
+        newTournament.setId(TestDataFactory.randomId());
         when(tournamentRepository.save(any(Tournament.class))).thenReturn(newTournament);
         when(tournamentMapper.convertToDto(newTournament)).thenReturn(tournamentDto);
 
@@ -162,6 +190,7 @@ class TournamentServiceTest {
         assertEquals(tournamentDto, result);
         verify(tournamentRepository).save(any(Tournament.class));
         verify(tournamentMapper).convertToDto(newTournament);
+        verify(eventPublisher).publishEvent(new TournamentChangedEvent(newTournament.getId()));
     }
 
     @Test
@@ -182,60 +211,98 @@ class TournamentServiceTest {
         assertEquals(tournamentDto, result);
         verify(tournamentRepository).findById(tournamentId);
         verify(tournamentRepository).save(tournament);
+        verify(tournamentRepository).refreshCapacityStatus(
+                tournamentId, Tournament.TournamentStatus.OPEN, Tournament.TournamentStatus.FULL);
         verify(tournamentMapper).convertToDto(tournament);
+        verify(eventPublisher).publishEvent(new TournamentChangedEvent(tournamentId));
     }
 
     @Test
-    void countActiveTournaments_ShouldReturnCountOfTournamentsWithinNextTwoWeeks() {
+    void countActiveTournaments_ShouldCountTournamentsWithinNextTwoWeeksInRepository() {
         // Given
-        var activeTournament1 = TestDataFactory.createTournament();
-        activeTournament1.setDate(LocalDate.now().plusDays(5)); // Within 2 weeks
+        var today = LocalDate.now();
+        when(tournamentRepository.countByDateBetween(today, today.plusWeeks(2))).thenReturn(2L);
 
-        var activeTournament2 = TestDataFactory.createTournament();
-        activeTournament2.setDate(LocalDate.now().plusWeeks(1)); // Within 2 weeks
+        // When
+        var result = tournamentService.countActiveTournaments();
 
-        var inactiveTournament = TestDataFactory.createTournament();
-        inactiveTournament.setDate(LocalDate.now().plusWeeks(3)); // Beyond 2 weeks
+        // Then
+        assertEquals(2L, result);
+        verify(tournamentRepository).countByDateBetween(today, today.plusWeeks(2));
+        verify(tournamentRepository, never()).findAll();
+    }
 
-        var allTournaments = List.of(activeTournament1, activeTournament2, inactiveTournament);
-        when(tournamentRepository.findAll()).thenReturn(allTournaments);
+    @Test
+    void findUpcoming_WithLimit_ShouldReturnLimitedTournamentDtos() {
+        // Given
+        when(tournamentRepository.findByDateGreaterThanEqualOrderByDateAscTimeAsc(LocalDate.now(), Limit.of(3)))
+                .thenReturn(List.of(tournament));
+        when(tournamentMapper.convertToDto(tournament)).thenReturn(tournamentDto);
 
         // When
-        var result = tournamentService.countActiveTournaments();
+        var result = tournamentService.findUpcoming(3);
 
         // Then
-        assertEquals(2L, result);
-        verify(tournamentRepository).findAll();
+        assertEquals(List.of(tournamentDto), result);
+        verify(tournamentRepository).findByDateGreaterThanEqualOrderByDateAscTimeAsc(LocalDate.now(), Limit.of(3));
     }
 
     @Test
-    void findAvailableForRegistration_ShouldReturnTournamentsNotStartedAndNotFull() {
+    void findUpcoming_WithoutLimit_ShouldRequestUnlimitedResults() {
         // Given
-        var availableTournament = TestDataFactory.createTournament();
-        availableTournament.setMaxEntrants(10);
+        when(tournamentRepository.findByDateGreaterThanEqualOrderByDateAscTimeAsc(LocalDate.now(), Limit.unlimited()))
+                .thenReturn(List.of());
 
-        var fullTournament = TestDataFactory.createTournament();
-        fullTournament.setMaxEntrants(2);
+        // When
+        var result = tournamentService.findUpcoming();
 
-        var startedTournament = TestDataFactory.createTournament();
+        // Then
+        assertTrue(result.isEmpty());
+        verify(tournamentRepository).findByDateGreaterThanEqualOrderByDateAscTimeAsc(LocalDate.now(), Limit.unlimited());
+    }
 
-        var allTournaments = List.of(availableTournament, fullTournament, startedTournament);
-        when(tournamentRepository.findAllByOrderByDateAsc()).thenReturn(allTournaments);
+    @Test
+    void findPast_WithLimit_ShouldReturnMostRecentTournamentDtos() {
+        // Given
+        when(tournamentRepository.findByDateLessThanOrderByDateDescTimeDesc(LocalDate.now(), Limit.of(5)))
+                .thenReturn(List.of(tournament));
+        when(tournamentMapper.convertToDto(tournament)).thenReturn(tournamentDto);
 
-        // Available tournament: not started, not full
-        when(gameService.isTournamentStarted(availableTournament)).thenReturn(false);
-        when(registrationService.findByTournament(availableTournament)).thenReturn(List.of());
+        // When
+        var result = tournamentService.findPast(5);
 
-        // Full tournament: not started but full
-        when(gameService.isTournamentStarted(fullTournament)).thenReturn(false);
-        when(registrationService.findByTournament(fullTournament)).thenReturn(
-                TestDataFactory.createTournamentRegistrationsForTournament(fullTournament, 2)
-        );
+        // Then
+        assertEquals(List.of(tournamentDto), result);
+        verify(tournamentRepository).findByDateLessThanOrderByDateDescTimeDesc(LocalDate.now(), Limit.of(5));
+    }
 
-        // Started tournament: already started
-        when(gameService.isTournamentStarted(startedTournament)).thenReturn(true);
+    @Test
+    void findInWindow_ShouldQueryDateRange() {
+        // Given
+        var from = LocalDate.now().plusDays(1);
+        var to = from.plusWeeks(1);
+        when(tournamentRepository.findByDateBetweenOrderByDateAscTimeAsc(from, to, Limit.unlimited()))
+                .thenReturn(List.of(tournament));
+        when(tournamentMapper.convertToDto(tournament)).thenReturn(tournamentDto);
 
+        // When
+        var result = tournamentService.findInWindow(from, to);
+
+        // Then
+        assertEquals(List.of(tournamentDto), result);
+        verify(tournamentRepository).findByDateBetweenOrderByDateAscTimeAsc(from, to, Limit.unlimited());
+    }
+
+    @Test
+    void findAvailableForRegistration_ShouldMapOpenTournamentsFromStatusQuery() {
+        // Given
+        var availableTournament = TestDataFactory.createTournament();
+        availableTournament.setMaxEntrants(10);
+        availableTournament.setRegistrationCount(4);
         var availableTournamentDto = TestDataFactory.createTournamentDtoFromTournament(availableTournament);
+
+        when(tournamentRepository.findByStatusOrderByDateAsc(Tournament.TournamentStatus.OPEN))
+                .thenReturn(List.of(availableTournament));
         when(tournamentMapper.convertToDto(availableTournament)).thenReturn(availableTournamentDto);
 
         // When
@@ -245,14 +312,7 @@ class TournamentServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(availableTournamentDto, result.getFirst());
-        verify(tournamentRepository).findAllByOrderByDateAsc();
-        verify(gameService).isTournamentStarted(availableTournament);
-        verify(gameService).isTournamentStarted(fullTournament);
-        verify(gameService).isTournamentStarted(startedTournament);
-        verify(registrationService).findByTournament(availableTournament);
-        verify(registrationService).findByTournament(fullTournament);
-        verify(tournamentMapper).convertToDto(availableTournament);
+        verify(tournamentRepository).findByStatusOrderByDateAsc(Tournament.TournamentStatus.OPEN);
+        verify(registrationService, never()).findByTournament(any());
     }
 }
-
-
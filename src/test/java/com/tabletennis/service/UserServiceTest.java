@@ -3,20 +3,30 @@ package com.tabletennis.service;
 import java.util.Optional;
 
 import com.tabletennis.TestDataFactory;
+import com.tabletennis.config.CacheConfig;
+import com.tabletennis.config.EmailSetupAuthenticationSuccessHandler;
 import com.tabletennis.entity.User;
+import com.tabletennis.event.UserChangedEvent;
 import com.tabletennis.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,12 +36,15 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private UserService userService;
     private User user;
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository);
+        userService = new UserService(userRepository, new ConcurrentMapCacheManager(CacheConfig.USERS), eventPublisher);
 
         // Create test data using TestDataFactory
         user = TestDataFactory.createUser();
@@ -57,6 +70,59 @@ class UserServiceTest {
         verify(userRepository).findByUsername(username);
     }
 
+    @Test
+    void loadUserByUsername_ShouldReturnPrincipalCarryingEmailSetupFlag() {
+        // Given
+        var username = user.getUsername();
+        user.setEmail(null);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+
+        // When
+        var result = userService.loadUserByUsername(username);
+
+        // Then
+        var principal = assertInstanceOf(AuthenticatedUser.class, result);
+        assertTrue(principal.isEmailSetupRequired());
+    }
+
+    @Test
+    void loginFlow_ShouldQueryRepositoryOnce() throws Exception {
+        // Given
+        var username = user.getUsername();
+        user.setEmail(null);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        var successHandler = new EmailSetupAuthenticationSuccessHandler(userService);
+        var response = new MockHttpServletResponse();
+
+        // When
+        var principal = userService.loadUserByUsername(username);
+        var authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
+        successHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response, authentication);
+        var needsEmailSetupOnSetupPage = userService.needsEmailSetup(username);
+
+        // Then
+        assertEquals("/setup-email", response.getRedirectedUrl());
+        assertTrue(needsEmailSetupOnSetupPage);
+        verify(userRepository, times(1)).findByUsername(username);
+    }
+
+    @Test
+    void loadUserByUsername_ShouldReturnFreshPrincipalFromCacheOnEachLogin() {
+        // Given
+        var username = user.getUsername();
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        var firstLogin = (AuthenticatedUser) userService.loadUserByUsername(username);
+        firstLogin.eraseCredentials();
+
+        // When
+        var secondLogin = userService.loadUserByUsername(username);
+
+        // Then
+        assertEquals(user.getPassword(), secondLogin.getPassword());
+        verify(userRepository, times(1)).findByUsername(username);
+    }
+
     @Test
     void loadUserByUsername_WhenUserDoesNotExist_ShouldThrowException() {
         // Given
@@ -65,7 +131,8 @@ class UserServiceTest {
 
         // When & Then
         assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername(username));
-        verify(userRepository).findByUsername(username);
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername(username));
+        verify(userRepository, times(2)).findByUsername(username);
     }
 
     @Test
@@ -157,6 +224,7 @@ class UserServiceTest {
         assertEquals(newEmail, user.getEmail());
         verify(userRepository).findByUsername(username);
         verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(username));
     }
 
     @Test
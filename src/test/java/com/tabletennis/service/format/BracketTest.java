@@ -0,0 +1,62 @@
+package com.tabletennis.service.format;
+
+import java.util.List;
+
+import com.tabletennis.entity.Game;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BracketTest {
+
+    @Test
+    void seedOrder_ShouldKeepTheTopSeedsApartUntilTheLateRounds() {
+        assertArrayEquals(new int[] {0, 1}, Bracket.seedOrder(2));
+        assertArrayEquals(new int[] {0, 3, 1, 2}, Bracket.seedOrder(4));
+        assertArrayEquals(new int[] {0, 7, 3, 4, 1, 6, 2, 5}, Bracket.seedOrder(8));
+    }
+
+    @Test
+    void knockout_WithSixEntrants_ShouldGiveTheTopTwoSeedsByes() {
+        // Given
+        var bracket = new Bracket(List.of());
+
+        // When
+        var knockout = bracket.knockout(Game.Stage.KNOCKOUT, new int[] {0, 1, 2, 3, 4, 5});
+
+        // Then
+        assertEquals(List.of(
+            new Fixture(Game.Stage.KNOCKOUT, 1, 1, 3, 4),
+            new Fixture(Game.Stage.KNOCKOUT, 1, 3, 2, 5)), bracket.fixtures());
+        assertEquals(Bracket.PENDING, knockout.champion());
+        assertArrayEquals(new int[] {Bracket.NONE, Bracket.PENDING, Bracket.NONE, Bracket.PENDING},
+            knockout.losers().getFirst());
+    }
+
+    @Test
+    void knockout_WhenBothFeederGamesArePlayed_ShouldAddTheNextGame() {
+        // Given
+        var bracket = new Bracket(List.of(
+            new Result(Game.Stage.KNOCKOUT, 1, 0, 0, 3, 11, 9),
+            new Result(Game.Stage.KNOCKOUT, 1, 1, 1, 2, 6, 11)));
+
+        // When
+        bracket.knockout(Game.Stage.KNOCKOUT, new int[] {0, 1, 2, 3});
+
+        // Then
+        assertEquals(new Fixture(Game.Stage.KNOCKOUT, 2, 0, 0, 2), bracket.fixtures().getLast());
+    }
+
+    @Test
+    void match_WithResultBetweenOtherPlayers_ShouldTreatTheGameAsUnplayed() {
+        // Given
+        var bracket = new Bracket(List.of(new Result(Game.Stage.KNOCKOUT, 2, 0, 0, 1, 11, 3)));
+
+        // When
+        var outcome = bracket.match(Game.Stage.KNOCKOUT, 2, 0, 0, 2);
+
+        // Then
+        assertEquals(new Bracket.Outcome(Bracket.PENDING, Bracket.PENDING), outcome);
+    }
+}
@@ -0,0 +1,56 @@
+package com.tabletennis.service.format;
+
+import java.util.List;
+
+import com.tabletennis.entity.Game;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DoubleEliminationFormatTest {
+
+    private final DoubleEliminationFormat format = new DoubleEliminationFormat();
+
+    @Test
+    void fixtures_WhenLosersBracketChampionWinsTheGrandFinal_ShouldReplayIt() {
+        // Given two entrants: the loser of the winners final goes straight to the grand final
+        var winnersFinal = new Result(Game.Stage.WINNERS, 1, 0, 0, 1, 11, 8);
+        var grandFinal = new Result(Game.Stage.GRAND_FINAL, 1, 0, 0, 1, 9, 11);
+
+        // When
+        var fixtures = format.fixtures(2, List.of(winnersFinal, grandFinal));
+
+        // Then
+        assertEquals(new Fixture(Game.Stage.GRAND_FINAL, 2, 0, 0, 1), fixtures.getLast());
+    }
+
+    @Test
+    void fixtures_WhenWinnersBracketChampionWinsTheGrandFinal_ShouldEndTheTournament() {
+        // Given
+        var winnersFinal = new Result(Game.Stage.WINNERS, 1, 0, 0, 1, 11, 8);
+        var grandFinal = new Result(Game.Stage.GRAND_FINAL, 1, 0, 0, 1, 11, 9);
+
+        // When
+        var fixtures = format.fixtures(2, List.of(winnersFinal, grandFinal));
+
+        // Then
+        assertEquals(2, fixtures.size());
+    }
+
+    @Test
+    void fixtures_AfterFirstRound_ShouldDropLosersIntoTheLosersBracket() {
+        // Given
+        var results = List.of(
+            new Result(Game.Stage.WINNERS, 1, 0, 0, 3, 11, 2),
+            new Result(Game.Stage.WINNERS, 1, 1, 1, 2, 4, 11));
+
+        // When
+        var fixtures = format.fixtures(4, results);
+
+        // Then
+        assertTrue(fixtures.contains(new Fixture(Game.Stage.WINNERS, 2, 0, 0, 2)));
+        assertTrue(fixtures.contains(new Fixture(Game.Stage.LOSERS, 1, 0, 3, 1)));
+        assertEquals(4, fixtures.size());
+    }
+}
@@ -0,0 +1,58 @@
+package com.tabletennis.service.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tabletennis.entity.Game;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoolsKnockoutFormatTest {
+
+    private final PoolsKnockoutFormat format = new PoolsKnockoutFormat();
+
+    @Test
+    void pools_ShouldDealSeedsOutInSnakeOrder() {
+        // When
+        var pools = PoolsKnockoutFormat.pools(9);
+
+        // Then
+        assertEquals(2, pools.size());
+        assertArrayEquals(new int[] {0, 3, 4, 7, 8}, pools.get(0));
+        assertArrayEquals(new int[] {1, 2, 5, 6}, pools.get(1));
+    }
+
+    @Test
+    void fixtures_BeforePoolsFinish_ShouldNotDrawTheKnockout() {
+        // When
+        var fixtures = format.fixtures(8, List.of());
+
+        // Then
+        assertEquals(12, fixtures.size());
+        assertTrue(fixtures.stream().allMatch(fixture -> fixture.stage() == Game.Stage.POOL));
+    }
+
+    @Test
+    void fixtures_WhenPoolsFinish_ShouldDrawPoolWinnersAgainstOtherPoolsRunnersUp() {
+        // Given the higher seed wins every pool game
+        var results = new ArrayList<Result>();
+        for (var fixture : format.fixtures(8, List.of())) {
+            var player1Wins = fixture.player1() < fixture.player2();
+            results.add(new Result(fixture.stage(), fixture.round(), fixture.position(), fixture.player1(),
+                fixture.player2(), player1Wins ? 11 : 5, player1Wins ? 5 : 11));
+        }
+
+        // When
+        var knockout = format.fixtures(8, results).stream()
+            .filter(fixture -> fixture.stage() == Game.Stage.KNOCKOUT)
+            .toList();
+
+        // Then pool one is seeds 0, 3, 4, 7 and pool two is seeds 1, 2, 5, 6
+        assertEquals(List.of(
+            new Fixture(Game.Stage.KNOCKOUT, 1, 0, 0, 2),
+            new Fixture(Game.Stage.KNOCKOUT, 1, 1, 1, 3)), knockout);
+    }
+}
@@ -0,0 +1,60 @@
+package com.tabletennis.service.format;
+
+import java.util.List;
+
+import com.tabletennis.entity.Game;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SwissFormatTest {
+
+    private final SwissFormat format = new SwissFormat();
+
+    @Test
+    void fixtures_WhenLatestRoundIsIncomplete_ShouldNotPairTheNextRound() {
+        // Given
+        var scheduled = List.of(
+            new Fixture(Game.Stage.SWISS, 1, 0, 0, 2),
+            new Fixture(Game.Stage.SWISS, 1, 1, 1, 3));
+        var played = new Result(Game.Stage.SWISS, 1, 0, 0, 2, 11, 6);
+
+        // When
+        var fixtures = format.fixtures(4, scheduled, List.of(played));
+
+        // Then
+        assertEquals(scheduled, fixtures);
+    }
+
+    @Test
+    void fixtures_ShouldGiveTheByeToTheEntrantMissingFromARound() {
+        // Given entrant 1 sat out the first round, so the second round's bye goes to the loser
+        var scheduled = List.of(new Fixture(Game.Stage.SWISS, 1, 0, 0, 2));
+        var played = new Result(Game.Stage.SWISS, 1, 0, 0, 2, 11, 6);
+
+        // When
+        var fixtures = format.fixtures(3, scheduled, List.of(played));
+
+        // Then
+        assertEquals(List.of(scheduled.getFirst(), new Fixture(Game.Stage.SWISS, 2, 0, 0, 1)), fixtures);
+    }
+
+    @Test
+    void fixtures_AfterAnEarlierResultIsCorrected_ShouldKeepTheRoundsAlreadyScheduled() {
+        // Given the second round was paired before the first round's top game was corrected
+        var scheduled = List.of(
+            new Fixture(Game.Stage.SWISS, 1, 0, 0, 2),
+            new Fixture(Game.Stage.SWISS, 1, 1, 1, 3),
+            new Fixture(Game.Stage.SWISS, 2, 0, 0, 1),
+            new Fixture(Game.Stage.SWISS, 2, 1, 2, 3));
+        var results = List.of(
+            new Result(Game.Stage.SWISS, 1, 0, 0, 2, 6, 11),
+            new Result(Game.Stage.SWISS, 1, 1, 1, 3, 11, 9));
+
+        // When
+        var fixtures = format.fixtures(4, scheduled, results);
+
+        // Then
+        assertEquals(scheduled, fixtures);
+    }
+}
@@ -0,0 +1,110 @@
+package com.tabletennis.service.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import com.tabletennis.entity.Tournament;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TournamentFormatTest {
+
+    @ParameterizedTest
+    @EnumSource(Tournament.Format.class)
+    void fixtures_PlayedThroughInAnyOrder_ShouldKeepEarlierFixturesAndNeverDoubleBookAPlayer(Tournament.Format format) {
+        for (var entrantCount = 2; entrantCount <= 33; entrantCount++) {
+            // Given
+            var tournamentFormat = TournamentFormat.of(format);
+            var random = new Random(entrantCount);
+            var results = new ArrayList<Result>();
+            List<Fixture> previous = List.of();
+
+            while (true) {
+                // When
+                var fixtures = tournamentFormat.fixtures(entrantCount, previous, results);
+
+                // Then
+                assertTrue(new HashSet<>(fixtures).containsAll(previous), format + " changed a fixture for " + entrantCount);
+                assertEquals(fixtures.size(), fixtures.stream().map(Fixture::key).distinct().count());
+                var played = results.stream().map(Result::key).collect(Collectors.toSet());
+                var open = fixtures.stream().filter(fixture -> !played.contains(fixture.key())).toList();
+                var booked = new HashSet<Integer>();
+                open.stream()
+                    .filter(fixture -> fixture.stage().isKnockout())
+                    .forEach(fixture -> assertTrue(booked.add(fixture.player1()) && booked.add(fixture.player2()),
+                        "Entrant has two knockout games to play at once: " + fixture));
+                if (open.isEmpty()) {
+                    break;
+                }
+                previous = fixtures;
+                var next = open.get(random.nextInt(open.size()));
+                var player1Wins = random.nextBoolean();
+                results.add(new Result(next.stage(), next.round(), next.position(), next.player1(), next.player2(),
+                    player1Wins ? 11 : 7, player1Wins ? 7 : 11));
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0} with {1} entrants")
+    @CsvSource({
+        "ROUND_ROBIN, 64, 2016",
+        "SINGLE_ELIMINATION, 64, 63",
+        "SINGLE_ELIMINATION, 13, 12",
+        "POOLS_KNOCKOUT, 64, 127",
+        "POOLS_KNOCKOUT, 13, 27",
+        "SWISS, 64, 192",
+        "SWISS, 13, 24"
+    })
+    void fixtures_PlayedToTheEnd_ShouldTakeTheExpectedNumberOfGames(Tournament.Format format, int entrantCount,
+            int expectedGames) {
+        // When
+        var results = playThrough(TournamentFormat.of(format), entrantCount);
+
+        // Then
+        assertEquals(expectedGames, results.size());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2", "5", "8", "13", "64"})
+    void doubleElimination_PlayedToTheEnd_ShouldKnockOutEveryoneButTheChampionOnTheirSecondLoss(int entrantCount) {
+        // When
+        var results = playThrough(TournamentFormat.of(Tournament.Format.DOUBLE_ELIMINATION), entrantCount);
+
+        // Then
+        var losses = new int[entrantCount];
+        results.forEach(result -> losses[result.player1Score() > result.player2Score()
+            ? result.player2() : result.player1()]++);
+        assertEquals(entrantCount - 1, Arrays.stream(losses).filter(count -> count == 2).count());
+        assertTrue(results.size() == 2 * entrantCount - 2 || results.size() == 2 * entrantCount - 1);
+    }
+
+    /**
+     * Play every fixture as it appears, the better seed always winning, building on the fixtures scheduled so far
+     */
+    private static List<Result> playThrough(TournamentFormat format, int entrantCount) {
+        var results = new ArrayList<Result>();
+        List<Fixture> fixtures = List.of();
+        while (true) {
+            var played = results.stream().map(Result::key).collect(Collectors.toSet());
+            fixtures = format.fixtures(entrantCount, fixtures, results);
+            var next = fixtures.stream()
+                .filter(fixture -> !played.contains(fixture.key()))
+                .findFirst();
+            if (next.isEmpty()) {
+                return results;
+            }
+            var fixture = next.get();
+            var player1Wins = fixture.player1() < fixture.player2();
+            results.add(new Result(fixture.stage(), fixture.round(), fixture.position(), fixture.player1(),
+                fixture.player2(), player1Wins ? 11 : 7, player1Wins ? 7 : 11));
+        }
+    }
+}